@@ -0,0 +1,124 @@
+package com.groo.security.ratelimit;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Rate-limit decision throughput: the previous synchronized fixed-window filter code against the
+ * lock-free token bucket. {@code clients=1} models every thread arriving from one NAT address;
+ * {@code maxRequestsPerSecond} switches between a mostly-rejecting and a mostly-admitting limit.
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RateLimiterBenchmark {
+
+    @Param({"1", "4096"})
+    public int clients;
+
+    @Param({"200", "16000000"})
+    public int maxRequestsPerSecond;
+
+    private String[] keys;
+    private LegacyFixedWindowLimiter legacy;
+    private TokenBucketRateLimiter tokenBucket;
+
+    @Setup
+    public void setUp() {
+        keys = new String[clients];
+        for (int i = 0; i < clients; i++) {
+            keys[i] = "10.0." + (i >>> 8) + "." + (i & 0xff);
+        }
+        legacy = new LegacyFixedWindowLimiter(1, maxRequestsPerSecond);
+        tokenBucket = new TokenBucketRateLimiter(
+                maxRequestsPerSecond, Duration.ofSeconds(1), Duration.ofMinutes(5), 100_000);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean legacyFixedWindow01() {
+        return legacy.isAllowed(nextKey());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean legacyFixedWindow08() {
+        return legacy.isAllowed(nextKey());
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean legacyFixedWindow64() {
+        return legacy.isAllowed(nextKey());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean tokenBucket01() {
+        return tokenBucket.tryAcquire(nextKey(), 1);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean tokenBucket08() {
+        return tokenBucket.tryAcquire(nextKey(), 1);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public boolean tokenBucket64() {
+        return tokenBucket.tryAcquire(nextKey(), 1);
+    }
+
+    private String nextKey() {
+        return clients == 1 ? keys[0] : keys[ThreadLocalRandom.current().nextInt(clients)];
+    }
+
+    /** Verbatim copy of the decision logic RateLimitingFilter used before the token bucket. */
+    static final class LegacyFixedWindowLimiter {
+
+        private final long windowSeconds;
+        private final int maxRequests;
+        private final Map<String, RequestWindow> counters = new ConcurrentHashMap<>();
+
+        LegacyFixedWindowLimiter(long windowSeconds, int maxRequests) {
+            this.windowSeconds = windowSeconds;
+            this.maxRequests = maxRequests;
+        }
+
+        boolean isAllowed(String key) {
+            RequestWindow window = counters.computeIfAbsent(key, k -> new RequestWindow());
+            synchronized (window) {
+                Instant now = Instant.now();
+                if (now.isAfter(window.windowStart.plusSeconds(windowSeconds))) {
+                    window.windowStart = now;
+                    window.counter.set(0);
+                }
+                if (window.counter.incrementAndGet() > maxRequests) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static final class RequestWindow {
+            private Instant windowStart = Instant.now();
+            private final AtomicInteger counter = new AtomicInteger(0);
+        }
+    }
+}
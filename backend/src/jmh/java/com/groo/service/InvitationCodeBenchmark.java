@@ -0,0 +1,58 @@
+package com.groo.service;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * Invitation code generation throughput: the previous random UUID code against the construction-unique
+ * generator. The legacy numbers exclude the existsByInvitationCode round trip each attempt also paid,
+ * so they are an upper bound. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InvitationCodeBenchmark {
+
+    private InvitationCodeGenerator generator;
+
+    @Setup
+    public void setUp() {
+        generator = new InvitationCodeGenerator(7, "benchmark-key");
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String legacyUuidCode01() {
+        return legacyCode();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String legacyUuidCode08() {
+        return legacyCode();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String generator01() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public String generator08() {
+        return generator.next();
+    }
+
+    private static String legacyCode() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
+    }
+}
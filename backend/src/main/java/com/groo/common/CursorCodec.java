@@ -0,0 +1,46 @@
+package com.groo.common;
+
+import com.groo.common.exception.BusinessException;
+import com.groo.common.exception.ErrorCode;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * Encodes keyset pagination positions as opaque URL-safe cursors. A cursor is the position's fields
+ * joined with {@code '|'} and base64url encoded; it is not signed, so decoded values must only ever be
+ * used as query bounds.
+ */
+public final class CursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final Pattern SPLITTER = Pattern.compile(Pattern.quote(SEPARATOR));
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Object... fields) {
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                joined.append(SEPARATOR);
+            }
+            joined.append(fields[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(joined.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedFields) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = SPLITTER.split(decoded, -1);
+            if (fields.length != expectedFields) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+            return fields;
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
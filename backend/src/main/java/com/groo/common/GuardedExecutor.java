@@ -0,0 +1,88 @@
+package com.groo.common;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs calls to a remote dependency on a small bounded pool behind a {@link CircuitBreaker} with a
+ * hard deadline, so a slow dependency costs a caller at most {@code timeout} instead of the client's
+ * own (much longer) timeout. An empty result means the call was skipped, rejected, timed out or failed.
+ */
+public class GuardedExecutor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GuardedExecutor.class);
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final long timeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    public GuardedExecutor(
+            String name,
+            CircuitBreaker circuitBreaker,
+            Duration timeout,
+            int maxThreads,
+            int queueCapacity) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.timeoutMillis = timeout.toMillis();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                Math.min(2, maxThreads), maxThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, name + "-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public <T> Optional<T> call(Supplier<T> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            return Optional.empty();
+        }
+        Future<T> future;
+        try {
+            future = executor.submit(call::get);
+        } catch (RejectedExecutionException ex) {
+            circuitBreaker.onFailure();
+            return Optional.empty();
+        }
+        try {
+            T result = future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            circuitBreaker.onSuccess();
+            return Optional.ofNullable(result);
+        } catch (TimeoutException ex) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            log.warn("{} call timed out after {} ms", name, timeoutMillis);
+        } catch (ExecutionException ex) {
+            circuitBreaker.onFailure();
+            log.warn("{} call failed: {}", name, ex.getCause().getMessage());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            circuitBreaker.onFailure();
+        }
+        return Optional.empty();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -23,7 +23,9 @@ public enum ErrorCode {
     PROJECT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "PROJECT_ACCESS_DENIED", "프로젝트에 접근할 권한이 없습니다."),
     TASK_NOT_FOUND(HttpStatus.NOT_FOUND, "TASK_NOT_FOUND", "작업을 찾을 수 없습니다."),
     SUBTASK_NOT_FOUND(HttpStatus.NOT_FOUND, "SUBTASK_NOT_FOUND", "하위 작업을 찾을 수 없습니다."),
-    TASK_UPDATE_INVALID(HttpStatus.BAD_REQUEST, "TASK_UPDATE_INVALID", "변경할 작업 정보가 올바르지 않습니다.");
+    TASK_UPDATE_INVALID(HttpStatus.BAD_REQUEST, "TASK_UPDATE_INVALID", "변경할 작업 정보가 올바르지 않습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "INVALID_CURSOR", "유효하지 않은 페이지 커서입니다."),
+    SERVICE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "SERVICE_BUSY", "요청이 많아 잠시 후 다시 시도해 주세요.");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,116 @@
+package com.groo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "app.security.blacklist")
+public class BlacklistProperties {
+
+    private boolean localFilterEnabled = true;
+    private int filterPartitions = 6;
+    private long filterExpectedInsertions = 100_000;
+    private double filterFalsePositiveRate = 0.01;
+    private long resyncIntervalMs = 60_000;
+    private String channel = "auth:blacklist:events";
+    private FailureMode failureMode = FailureMode.FAIL_OPEN;
+    private long redisCallTimeoutMs = 200;
+    private int breakerFailureThreshold = 5;
+    private long breakerOpenDurationMs = 30_000;
+    private int fallbackMaxEntries = 10_000;
+
+    public enum FailureMode {
+        /** Treat tokens as valid while the blacklist cannot be consulted. */
+        FAIL_OPEN,
+        /** Treat tokens that might be blacklisted as revoked while the blacklist cannot be consulted. */
+        FAIL_CLOSED
+    }
+
+    public boolean isLocalFilterEnabled() {
+        return localFilterEnabled;
+    }
+
+    public void setLocalFilterEnabled(boolean localFilterEnabled) {
+        this.localFilterEnabled = localFilterEnabled;
+    }
+
+    public int getFilterPartitions() {
+        return filterPartitions;
+    }
+
+    public void setFilterPartitions(int filterPartitions) {
+        this.filterPartitions = filterPartitions;
+    }
+
+    public long getFilterExpectedInsertions() {
+        return filterExpectedInsertions;
+    }
+
+    public void setFilterExpectedInsertions(long filterExpectedInsertions) {
+        this.filterExpectedInsertions = filterExpectedInsertions;
+    }
+
+    public double getFilterFalsePositiveRate() {
+        return filterFalsePositiveRate;
+    }
+
+    public void setFilterFalsePositiveRate(double filterFalsePositiveRate) {
+        this.filterFalsePositiveRate = filterFalsePositiveRate;
+    }
+
+    public long getResyncIntervalMs() {
+        return resyncIntervalMs;
+    }
+
+    public void setResyncIntervalMs(long resyncIntervalMs) {
+        this.resyncIntervalMs = resyncIntervalMs;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void setChannel(String channel) {
+        this.channel = channel;
+    }
+
+    public FailureMode getFailureMode() {
+        return failureMode;
+    }
+
+    public void setFailureMode(FailureMode failureMode) {
+        this.failureMode = failureMode;
+    }
+
+    public long getRedisCallTimeoutMs() {
+        return redisCallTimeoutMs;
+    }
+
+    public void setRedisCallTimeoutMs(long redisCallTimeoutMs) {
+        this.redisCallTimeoutMs = redisCallTimeoutMs;
+    }
+
+    public int getBreakerFailureThreshold() {
+        return breakerFailureThreshold;
+    }
+
+    public void setBreakerFailureThreshold(int breakerFailureThreshold) {
+        this.breakerFailureThreshold = breakerFailureThreshold;
+    }
+
+    public long getBreakerOpenDurationMs() {
+        return breakerOpenDurationMs;
+    }
+
+    public void setBreakerOpenDurationMs(long breakerOpenDurationMs) {
+        this.breakerOpenDurationMs = breakerOpenDurationMs;
+    }
+
+    public int getFallbackMaxEntries() {
+        return fallbackMaxEntries;
+    }
+
+    public void setFallbackMaxEntries(int fallbackMaxEntries) {
+        this.fallbackMaxEntries = fallbackMaxEntries;
+    }
+}
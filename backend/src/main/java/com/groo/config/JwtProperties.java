@@ -20,6 +20,41 @@ public class JwtProperties {
      */
     private long refreshTokenExpirationDays = 7;
 
+    /**
+     * Build the authenticated principal from verified token claims instead of loading the user per request.
+     */
+    private boolean claimsOnlyAuthentication = true;
+
+    /**
+     * How long a cached user state (role, status) is trusted before it is reloaded.
+     */
+    private long userStateCacheTtlSeconds = 60;
+
+    /**
+     * Maximum number of user states kept in the local cache.
+     */
+    private long userStateCacheMaxSize = 10_000;
+
+    /**
+     * Redis pub/sub channel on which user state evictions are broadcast to the other nodes.
+     */
+    private String userStateChannel = "auth:user-state:events";
+
+    /**
+     * Rows deleted per chunk by the expired/revoked refresh token purge.
+     */
+    private int refreshTokenPurgeBatchSize = 500;
+
+    /**
+     * Upper bound on chunks deleted per purge run, so one run never monopolises the table.
+     */
+    private int refreshTokenPurgeMaxBatches = 200;
+
+    /**
+     * Delay between purge runs.
+     */
+    private long refreshTokenPurgeIntervalMs = 600_000;
+
     public String getSecret() {
         return secret;
     }
@@ -43,4 +78,60 @@ public class JwtProperties {
     public void setRefreshTokenExpirationDays(long refreshTokenExpirationDays) {
         this.refreshTokenExpirationDays = refreshTokenExpirationDays;
     }
+
+    public boolean isClaimsOnlyAuthentication() {
+        return claimsOnlyAuthentication;
+    }
+
+    public void setClaimsOnlyAuthentication(boolean claimsOnlyAuthentication) {
+        this.claimsOnlyAuthentication = claimsOnlyAuthentication;
+    }
+
+    public long getUserStateCacheTtlSeconds() {
+        return userStateCacheTtlSeconds;
+    }
+
+    public void setUserStateCacheTtlSeconds(long userStateCacheTtlSeconds) {
+        this.userStateCacheTtlSeconds = userStateCacheTtlSeconds;
+    }
+
+    public long getUserStateCacheMaxSize() {
+        return userStateCacheMaxSize;
+    }
+
+    public void setUserStateCacheMaxSize(long userStateCacheMaxSize) {
+        this.userStateCacheMaxSize = userStateCacheMaxSize;
+    }
+
+    public String getUserStateChannel() {
+        return userStateChannel;
+    }
+
+    public void setUserStateChannel(String userStateChannel) {
+        this.userStateChannel = userStateChannel;
+    }
+
+    public int getRefreshTokenPurgeBatchSize() {
+        return refreshTokenPurgeBatchSize;
+    }
+
+    public void setRefreshTokenPurgeBatchSize(int refreshTokenPurgeBatchSize) {
+        this.refreshTokenPurgeBatchSize = refreshTokenPurgeBatchSize;
+    }
+
+    public int getRefreshTokenPurgeMaxBatches() {
+        return refreshTokenPurgeMaxBatches;
+    }
+
+    public void setRefreshTokenPurgeMaxBatches(int refreshTokenPurgeMaxBatches) {
+        this.refreshTokenPurgeMaxBatches = refreshTokenPurgeMaxBatches;
+    }
+
+    public long getRefreshTokenPurgeIntervalMs() {
+        return refreshTokenPurgeIntervalMs;
+    }
+
+    public void setRefreshTokenPurgeIntervalMs(long refreshTokenPurgeIntervalMs) {
+        this.refreshTokenPurgeIntervalMs = refreshTokenPurgeIntervalMs;
+    }
 }
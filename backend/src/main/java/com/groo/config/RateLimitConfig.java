@@ -0,0 +1,102 @@
+package com.groo.config;
+
+import com.groo.common.CircuitBreaker;
+import com.groo.common.GuardedExecutor;
+import com.groo.security.ratelimit.RateLimiter;
+import com.groo.security.ratelimit.RedisBatchRateLimiter;
+import com.groo.security.ratelimit.RouteTable;
+import com.groo.security.ratelimit.TokenBucketRateLimiter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class RateLimitConfig {
+
+    private static final String DEFAULT_SCOPE = "default";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.rate-limit", name = "mode", havingValue = "REDIS")
+    public GuardedExecutor rateLimitRedisCalls(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(
+                properties.getRedisBreakerFailureThreshold(),
+                Duration.ofMillis(properties.getRedisBreakerOpenDurationMs()),
+                null);
+        Gauge.builder("groo.ratelimit.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Rate limit Redis circuit: 0=closed, 1=open, 2=half-open")
+                .register(meterRegistry);
+        return new GuardedExecutor(
+                "ratelimit-redis", circuitBreaker, Duration.ofMillis(properties.getRedisCallTimeoutMs()), 16, 512);
+    }
+
+    /**
+     * Compiles {@code app.rate-limit.policies} into the route table used by the filter. Policies with
+     * their own limits get their own limiter; the rest draw from the default budget.
+     */
+    @Bean
+    public RouteTable rateLimitRoutes(
+            RateLimitProperties properties,
+            StringRedisTemplate redisTemplate,
+            ObjectProvider<GuardedExecutor> redisCalls,
+            MeterRegistry meterRegistry) {
+        LimiterFactory factory = new LimiterFactory(properties, redisTemplate, redisCalls.getIfAvailable(), meterRegistry);
+        RateLimiter defaultLimiter = factory.create(DEFAULT_SCOPE, properties.getMaxRequests(), properties.getWindowSeconds());
+        RouteTable routes = new RouteTable(new RouteTable.Route(DEFAULT_SCOPE, 1, defaultLimiter));
+        for (RateLimitProperties.Policy policy : properties.getPolicies()) {
+            if (policy.getPattern() == null || policy.getCost() < 0) {
+                throw new IllegalArgumentException("Rate limit policy needs a pattern and a non-negative cost");
+            }
+            RouteTable.Route route;
+            if (policy.getMaxRequests() == null && policy.getWindowSeconds() == null) {
+                requireAffordable(policy, properties.getMaxRequests());
+                route = new RouteTable.Route(DEFAULT_SCOPE, policy.getCost(), defaultLimiter);
+            } else {
+                int maxRequests = policy.getMaxRequests() != null ? policy.getMaxRequests() : properties.getMaxRequests();
+                long windowSeconds = policy.getWindowSeconds() != null
+                        ? policy.getWindowSeconds()
+                        : properties.getWindowSeconds();
+                requireAffordable(policy, maxRequests);
+                String scope = policy.getPattern();
+                route = new RouteTable.Route(scope, policy.getCost(), factory.create(scope, maxRequests, windowSeconds));
+            }
+            routes.register(policy.getMethod(), policy.getPattern(), route);
+        }
+        return routes;
+    }
+
+    private static void requireAffordable(RateLimitProperties.Policy policy, int maxRequests) {
+        if (policy.getCost() > maxRequests) {
+            throw new IllegalArgumentException(
+                    "Rate limit policy " + policy.getPattern() + " costs more than its budget of " + maxRequests);
+        }
+    }
+
+    private record LimiterFactory(
+            RateLimitProperties properties,
+            StringRedisTemplate redisTemplate,
+            GuardedExecutor redisCalls,
+            MeterRegistry meterRegistry) {
+
+        RateLimiter create(String scope, int maxRequests, long windowSeconds) {
+            TokenBucketRateLimiter local = new TokenBucketRateLimiter(
+                    maxRequests,
+                    Duration.ofSeconds(windowSeconds),
+                    Duration.ofSeconds(properties.getIdleEvictionSeconds()),
+                    properties.getMaxTrackedClients());
+            Gauge.builder("groo.ratelimit.tracked.clients", local, TokenBucketRateLimiter::trackedKeys)
+                    .description("Client buckets currently held by the local rate limiter")
+                    .tag("scope", scope)
+                    .register(meterRegistry);
+            if (redisCalls == null) {
+                return local;
+            }
+            return new RedisBatchRateLimiter(
+                    redisTemplate, redisCalls, local, maxRequests, Duration.ofSeconds(windowSeconds), properties);
+        }
+    }
+}
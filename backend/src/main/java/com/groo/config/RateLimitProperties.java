@@ -1,5 +1,7 @@
 package com.groo.config;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -10,6 +12,37 @@ public class RateLimitProperties {
     private boolean enabled = true;
     private long windowSeconds = 60;
     private int maxRequests = 200;
+    private long idleEvictionSeconds = 300;
+    private int maxTrackedClients = 100_000;
+    private Mode mode = Mode.LOCAL;
+    private int redisBatchSize = 20;
+    private long redisLeaseMillis = 1_000;
+    private long redisCallTimeoutMs = 50;
+    private int redisBreakerFailureThreshold = 5;
+    private long redisBreakerOpenDurationMs = 10_000;
+    private Fallback redisFallback = Fallback.LOCAL;
+    private List<Policy> policies = new ArrayList<>();
+    private boolean heavyHittersEnabled = true;
+    private long heavyHitterWindowSeconds = 60;
+    private int heavyHitterTopK = 20;
+    private int heavyHitterSketchWidth = 2048;
+    private int heavyHitterSketchDepth = 4;
+    private long autoBanThreshold = 0;
+    private long autoBanSeconds = 600;
+
+    public enum Mode {
+        /** Each node enforces the limits on its own. */
+        LOCAL,
+        /** Limits are shared cluster-wide through Redis; nodes lease quota in batches. */
+        REDIS
+    }
+
+    public enum Fallback {
+        /** Enforce the limits per node until Redis is reachable again. */
+        LOCAL,
+        ALLOW,
+        DENY
+    }
 
     public boolean isEnabled() {
         return enabled;
@@ -34,4 +67,199 @@ public class RateLimitProperties {
     public void setMaxRequests(int maxRequests) {
         this.maxRequests = maxRequests;
     }
+
+    public long getIdleEvictionSeconds() {
+        return idleEvictionSeconds;
+    }
+
+    public void setIdleEvictionSeconds(long idleEvictionSeconds) {
+        this.idleEvictionSeconds = idleEvictionSeconds;
+    }
+
+    public int getMaxTrackedClients() {
+        return maxTrackedClients;
+    }
+
+    public void setMaxTrackedClients(int maxTrackedClients) {
+        this.maxTrackedClients = maxTrackedClients;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getRedisBatchSize() {
+        return redisBatchSize;
+    }
+
+    public void setRedisBatchSize(int redisBatchSize) {
+        this.redisBatchSize = redisBatchSize;
+    }
+
+    public long getRedisLeaseMillis() {
+        return redisLeaseMillis;
+    }
+
+    public void setRedisLeaseMillis(long redisLeaseMillis) {
+        this.redisLeaseMillis = redisLeaseMillis;
+    }
+
+    public long getRedisCallTimeoutMs() {
+        return redisCallTimeoutMs;
+    }
+
+    public void setRedisCallTimeoutMs(long redisCallTimeoutMs) {
+        this.redisCallTimeoutMs = redisCallTimeoutMs;
+    }
+
+    public int getRedisBreakerFailureThreshold() {
+        return redisBreakerFailureThreshold;
+    }
+
+    public void setRedisBreakerFailureThreshold(int redisBreakerFailureThreshold) {
+        this.redisBreakerFailureThreshold = redisBreakerFailureThreshold;
+    }
+
+    public long getRedisBreakerOpenDurationMs() {
+        return redisBreakerOpenDurationMs;
+    }
+
+    public void setRedisBreakerOpenDurationMs(long redisBreakerOpenDurationMs) {
+        this.redisBreakerOpenDurationMs = redisBreakerOpenDurationMs;
+    }
+
+    public Fallback getRedisFallback() {
+        return redisFallback;
+    }
+
+    public void setRedisFallback(Fallback redisFallback) {
+        this.redisFallback = redisFallback;
+    }
+
+    public List<Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(List<Policy> policies) {
+        this.policies = policies;
+    }
+
+    public boolean isHeavyHittersEnabled() {
+        return heavyHittersEnabled;
+    }
+
+    public void setHeavyHittersEnabled(boolean heavyHittersEnabled) {
+        this.heavyHittersEnabled = heavyHittersEnabled;
+    }
+
+    public long getHeavyHitterWindowSeconds() {
+        return heavyHitterWindowSeconds;
+    }
+
+    public void setHeavyHitterWindowSeconds(long heavyHitterWindowSeconds) {
+        this.heavyHitterWindowSeconds = heavyHitterWindowSeconds;
+    }
+
+    public int getHeavyHitterTopK() {
+        return heavyHitterTopK;
+    }
+
+    public void setHeavyHitterTopK(int heavyHitterTopK) {
+        this.heavyHitterTopK = heavyHitterTopK;
+    }
+
+    public int getHeavyHitterSketchWidth() {
+        return heavyHitterSketchWidth;
+    }
+
+    public void setHeavyHitterSketchWidth(int heavyHitterSketchWidth) {
+        this.heavyHitterSketchWidth = heavyHitterSketchWidth;
+    }
+
+    public int getHeavyHitterSketchDepth() {
+        return heavyHitterSketchDepth;
+    }
+
+    public void setHeavyHitterSketchDepth(int heavyHitterSketchDepth) {
+        this.heavyHitterSketchDepth = heavyHitterSketchDepth;
+    }
+
+    /**
+     * Cost units a single key may spend within one heavy-hitter window before it is banned; 0 disables
+     * automatic bans.
+     */
+    public long getAutoBanThreshold() {
+        return autoBanThreshold;
+    }
+
+    public void setAutoBanThreshold(long autoBanThreshold) {
+        this.autoBanThreshold = autoBanThreshold;
+    }
+
+    public long getAutoBanSeconds() {
+        return autoBanSeconds;
+    }
+
+    public void setAutoBanSeconds(long autoBanSeconds) {
+        this.autoBanSeconds = autoBanSeconds;
+    }
+
+    /**
+     * Route-specific rule. {@code pattern} is an Ant-style path where {@code *} matches one segment and
+     * a trailing {@code **} any remainder. Without its own {@code maxRequests}/{@code windowSeconds} a
+     * policy spends {@code cost} tokens from the caller's default budget; with them it gets a separate
+     * budget. A cost of 0 exempts the route.
+     */
+    public static class Policy {
+
+        private String pattern;
+        private String method;
+        private int cost = 1;
+        private Integer maxRequests;
+        private Long windowSeconds;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public int getCost() {
+            return cost;
+        }
+
+        public void setCost(int cost) {
+            this.cost = cost;
+        }
+
+        public Integer getMaxRequests() {
+            return maxRequests;
+        }
+
+        public void setMaxRequests(Integer maxRequests) {
+            this.maxRequests = maxRequests;
+        }
+
+        public Long getWindowSeconds() {
+            return windowSeconds;
+        }
+
+        public void setWindowSeconds(Long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+    }
 }
@@ -0,0 +1,31 @@
+package com.groo.config;
+
+import com.groo.security.UserStateCache;
+import com.groo.service.GroupMembershipCache;
+import com.groo.service.TokenBlacklistService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app.redis.pubsub", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class RedisPubSubConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TokenBlacklistService tokenBlacklistService,
+            BlacklistProperties blacklistProperties,
+            GroupMembershipCache groupMembershipCache,
+            UserStateCache userStateCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenBlacklistService, new ChannelTopic(blacklistProperties.getChannel()));
+        container.addMessageListener(groupMembershipCache, new ChannelTopic(groupMembershipCache.getChannel()));
+        container.addMessageListener(userStateCache, new ChannelTopic(userStateCache.getChannel()));
+        return container;
+    }
+}
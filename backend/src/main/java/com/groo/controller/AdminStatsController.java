@@ -3,6 +3,8 @@ package com.groo.controller;
 import com.groo.common.ApiResponse;
 import com.groo.dto.AdminUserStatsResponse;
 import com.groo.dto.AdminWorkloadStatsResponse;
+import com.groo.dto.HeavyHittersResponse;
+import com.groo.security.ratelimit.HeavyHitterTracker;
 import com.groo.service.UserService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +16,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AdminStatsController {
 
     private final UserService userService;
+    private final HeavyHitterTracker heavyHitterTracker;
 
-    public AdminStatsController(UserService userService) {
+    public AdminStatsController(UserService userService, HeavyHitterTracker heavyHitterTracker) {
         this.userService = userService;
+        this.heavyHitterTracker = heavyHitterTracker;
     }
 
     @GetMapping("/users")
@@ -28,4 +32,9 @@ public class AdminStatsController {
     public ResponseEntity<ApiResponse<AdminWorkloadStatsResponse>> workloadStats() {
         return ResponseEntity.ok(ApiResponse.success(userService.workloadStats()));
     }
+
+    @GetMapping("/heavy-hitters")
+    public ResponseEntity<ApiResponse<HeavyHittersResponse>> heavyHitters() {
+        return ResponseEntity.ok(ApiResponse.success(heavyHitterTracker.snapshot()));
+    }
 }
@@ -6,14 +6,13 @@ import com.groo.dto.LoginRequest;
 import com.groo.dto.RefreshTokenRequest;
 import com.groo.dto.RegisterRequest;
 import com.groo.dto.SocialLoginRequest;
+import com.groo.security.AccessTokenResolver;
 import com.groo.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -22,9 +21,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class AuthController {
 
     private final AuthService authService;
+    private final AccessTokenResolver accessTokenResolver;
 
-    public AuthController(AuthService authService) {
+    public AuthController(AuthService authService, AccessTokenResolver accessTokenResolver) {
         this.authService = authService;
+        this.accessTokenResolver = accessTokenResolver;
     }
 
     @PostMapping("/register")
@@ -44,9 +45,9 @@ public class AuthController {
 
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<Void>> logout(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            HttpServletRequest servletRequest,
             @Valid @RequestBody RefreshTokenRequest request) {
-        authService.logout(request, resolveToken(authorization));
+        authService.logout(request, accessTokenResolver.resolve(servletRequest).orElse(null));
         return ResponseEntity.ok(ApiResponse.success(null, "Logout completed."));
     }
 
@@ -59,12 +60,4 @@ public class AuthController {
     public ResponseEntity<ApiResponse<AuthResponse>> firebase(@Valid @RequestBody SocialLoginRequest request) {
         return ResponseEntity.ok(ApiResponse.success(authService.loginWithFirebase(request)));
     }
-
-    private String resolveToken(String authorizationHeader) {
-        if (StringUtils.hasText(authorizationHeader) && authorizationHeader.startsWith("Bearer ")) {
-            return authorizationHeader.substring(7);
-        }
-        return null;
-    }
 }
-
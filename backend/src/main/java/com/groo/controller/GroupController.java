@@ -4,16 +4,20 @@ import com.groo.common.ApiResponse;
 import com.groo.domain.group.GroupStatus;
 import com.groo.dto.AddGroupMemberRequest;
 import com.groo.dto.CreateGroupRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.GroupDetailDto;
 import com.groo.dto.GroupMemberDto;
 import com.groo.dto.GroupSummaryDto;
 import com.groo.dto.JoinGroupRequest;
+import com.groo.dto.MemberImportReport;
+import com.groo.dto.MemberImportRequest;
 import com.groo.dto.PageResponse;
 import com.groo.dto.UpdateGroupRequest;
 import com.groo.security.UserPrincipal;
 import com.groo.service.GroupService;
 import jakarta.validation.Valid;
 import java.util.List;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -78,6 +82,15 @@ public class GroupController {
         return ResponseEntity.ok(ApiResponse.success(groupService.listMembers(groupId, principal)));
     }
 
+    @GetMapping("/{groupId}/members/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<GroupMemberDto>>> memberPage(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ApiResponse.success(groupService.listMemberPage(groupId, cursor, size, principal)));
+    }
+
     @PostMapping("/{groupId}/members")
     public ResponseEntity<ApiResponse<GroupMemberDto>> addMember(
             @PathVariable Long groupId,
@@ -86,6 +99,23 @@ public class GroupController {
         return ResponseEntity.ok(ApiResponse.success(groupService.addMember(groupId, request, principal)));
     }
 
+    @PostMapping(value = "/{groupId}/members/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ApiResponse<MemberImportReport>> importMembers(
+            @PathVariable Long groupId,
+            @Valid @RequestBody MemberImportRequest request,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ApiResponse.success(groupService.importMembers(groupId, request, principal)));
+    }
+
+    @PostMapping(value = "/{groupId}/members/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<MemberImportReport>> importMembersCsv(
+            @PathVariable Long groupId,
+            @RequestBody String csv,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ApiResponse.success(
+                groupService.importMembers(groupId, MemberImportRequest.fromCsv(csv), principal)));
+    }
+
     @DeleteMapping("/{groupId}/members/{membershipId}")
     public ResponseEntity<ApiResponse<Void>> removeMember(
             @PathVariable Long groupId,
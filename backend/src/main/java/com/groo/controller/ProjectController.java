@@ -3,6 +3,7 @@ package com.groo.controller;
 import com.groo.common.ApiResponse;
 import com.groo.domain.project.ProjectStatus;
 import com.groo.dto.CreateProjectRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.PageResponse;
 import com.groo.dto.ProjectResponse;
 import com.groo.security.UserPrincipal;
@@ -35,6 +36,16 @@ public class ProjectController {
         return ResponseEntity.ok(ApiResponse.success(projectService.listByGroup(groupId, principal)));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<ProjectResponse>>> page(
+            @RequestParam Long groupId,
+            @RequestParam(required = false) ProjectStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "12") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ApiResponse.success(projectService.listPage(groupId, status, cursor, size, principal)));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponse<ProjectResponse>>> search(
             @RequestParam Long groupId,
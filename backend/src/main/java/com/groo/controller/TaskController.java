@@ -1,10 +1,15 @@
 package com.groo.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.groo.common.ApiResponse;
 import com.groo.domain.task.TaskPriority;
 import com.groo.domain.task.TaskStatus;
 import com.groo.dto.AddSubtaskRequest;
 import com.groo.dto.CreateTaskRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.PageResponse;
 import com.groo.dto.SubtaskResponse;
 import com.groo.dto.TaskActivityResponse;
@@ -14,7 +19,11 @@ import com.groo.dto.TaskResponse;
 import com.groo.dto.UpdateTaskRequest;
 import com.groo.security.UserPrincipal;
 import com.groo.service.TaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -32,10 +41,15 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    private static final String NDJSON = "application/x-ndjson";
+    private static final int STREAM_FLUSH_EVERY = 200;
+
     private final TaskService taskService;
+    private final ObjectMapper objectMapper;
 
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.objectMapper = objectMapper;
     }
 
     @GetMapping
@@ -45,6 +59,37 @@ public class TaskController {
         return ResponseEntity.ok(ApiResponse.success(taskService.listByProject(projectId, principal)));
     }
 
+    /**
+     * Newline-delimited JSON variant of the listing: one task per line, written as rows are read and
+     * flushed every {@value #STREAM_FLUSH_EVERY} tasks.
+     */
+    @GetMapping("/stream")
+    public void streamByProject(
+            @RequestParam Long projectId,
+            @AuthenticationPrincipal UserPrincipal principal,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ObjectWriter writer = objectMapper.writerFor(TaskResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        int[] written = {0};
+        taskService.streamByProject(projectId, principal, task -> {
+            try {
+                writer.writeValue(generator, task);
+                generator.writeRaw('\n');
+                if (++written[0] % STREAM_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        generator.close();
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PageResponse<TaskResponse>>> search(
             @RequestParam Long projectId,
@@ -59,6 +104,20 @@ public class TaskController {
                 taskService.searchTasks(projectId, keyword, status, priority, page, size, sort, principal)));
     }
 
+    @GetMapping("/search/page")
+    public ResponseEntity<ApiResponse<CursorPageResponse<TaskResponse>>> searchPage(
+            @RequestParam Long projectId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(defaultValue = "dueDate,ASC") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal UserPrincipal principal) {
+        return ResponseEntity.ok(ApiResponse.success(
+                taskService.searchTaskPage(projectId, keyword, status, priority, sort, cursor, size, principal)));
+    }
+
     @PostMapping
     public ResponseEntity<ApiResponse<TaskResponse>> create(
             @Valid @RequestBody CreateTaskRequest request,
@@ -1,8 +1,34 @@
 package com.groo.domain.auth;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    Optional<RefreshToken> findByToken(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * Revokes the token only if it is still usable; the affected row count tells the caller whether it
+     * won the token.
+     */
+    @Modifying
+    @Query("""
+            UPDATE RefreshToken t SET t.revoked = true
+            WHERE t.tokenHash = :tokenHash AND t.revoked = false AND t.expiresAt > :now
+            """)
+    int consume(@Param("tokenHash") String tokenHash, @Param("now") Instant now);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.expiresAt < :now ORDER BY t.expiresAt")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+
+    @Query("SELECT t.id FROM RefreshToken t WHERE t.revoked = true ORDER BY t.id")
+    List<Long> findRevokedIds(Pageable pageable);
 }
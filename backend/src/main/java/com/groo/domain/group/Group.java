@@ -48,6 +48,10 @@ public class Group {
     @Column(nullable = false, unique = true, length = 32)
     private String invitationCode;
 
+    // written only by GroupRepository.adjustMemberCount so concurrent joins never lose updates
+    @Column(nullable = false, updatable = false)
+    private int memberCount;
+
     public Group() {
     }
 
@@ -119,6 +123,22 @@ public class Group {
         return invitationCode;
     }
 
+    public int getMemberCount() {
+        return memberCount;
+    }
+
+    /**
+     * Mirrors a member count change already applied with {@link GroupRepository#adjustMemberCount} on
+     * this loaded instance.
+     */
+    public void memberCountChanged(int delta) {
+        this.memberCount += delta;
+    }
+
+    public void assignInvitationCode(String invitationCode) {
+        this.invitationCode = invitationCode;
+    }
+
     public void regenerateInvitationCode() {
         this.invitationCode = UUID.randomUUID().toString().replace("-", "").substring(0, 16).toUpperCase();
     }
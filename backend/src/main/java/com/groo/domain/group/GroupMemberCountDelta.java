@@ -0,0 +1,51 @@
+package com.groo.domain.group;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * A member_count change written in the transaction that caused it and not yet folded into
+ * {@code workspace_groups}. Appending here instead of updating the group row keeps simultaneous joins
+ * from queueing on that row.
+ */
+@Entity
+@Table(name = "group_member_count_deltas", indexes = {
+        @Index(name = "idx_group_member_count_deltas_group", columnList = "group_id")
+})
+public class GroupMemberCountDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    @Column(nullable = false)
+    private int delta;
+
+    protected GroupMemberCountDelta() {
+    }
+
+    public GroupMemberCountDelta(Long groupId, int delta) {
+        this.groupId = groupId;
+        this.delta = delta;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getGroupId() {
+        return groupId;
+    }
+
+    public int getDelta() {
+        return delta;
+    }
+}
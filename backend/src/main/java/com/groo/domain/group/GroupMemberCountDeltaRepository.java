@@ -0,0 +1,21 @@
+package com.groo.domain.group;
+
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface GroupMemberCountDeltaRepository extends JpaRepository<GroupMemberCountDelta, Long> {
+
+    @Query("SELECT d FROM GroupMemberCountDelta d ORDER BY d.id ASC")
+    List<GroupMemberCountDelta> findOldest(Pageable limit);
+
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM group_member_count_deltas WHERE id IN (:ids)", nativeQuery = true)
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,25 @@
+package com.groo.domain.group;
+
+import java.util.List;
+
+public interface GroupMembershipBulkRepository {
+
+    /**
+     * Inserts the membership unless uk_group_user already has the pair, so concurrent joins need no
+     * prior existence check. Returns false for an existing member; every other error still fails. The
+     * outcome comes from the constraint itself, not from update counts, so it holds for any driver
+     * settings.
+     */
+    boolean insertIfAbsent(Long groupId, Long userId, GroupRole role);
+
+    /**
+     * Inserts the memberships as multi-row INSERTs, skipping users already in the group via
+     * uk_group_user; any other error fails. A chunk that hits an existing member writes nothing and is
+     * retried row by row, so the result says exactly which rows this call inserted, in input order,
+     * whatever the driver's batching or update-count settings.
+     */
+    boolean[] insertAllIfAbsent(Long groupId, List<NewMembership> memberships);
+
+    record NewMembership(Long userId, GroupRole role) {
+    }
+}
@@ -0,0 +1,72 @@
+package com.groo.domain.group;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+public class GroupMembershipBulkRepositoryImpl implements GroupMembershipBulkRepository {
+
+    private static final String INSERT = """
+            INSERT INTO group_memberships (group_id, user_id, role, joined_at)
+            VALUES\s""";
+    private static final String ROW = "(?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GroupMembershipBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(Long groupId, Long userId, GroupRole role) {
+        return insertRow(groupId, new NewMembership(userId, role), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public boolean[] insertAllIfAbsent(Long groupId, List<NewMembership> memberships) {
+        Timestamp joinedAt = Timestamp.valueOf(LocalDateTime.now());
+        boolean[] inserted = new boolean[memberships.size()];
+        for (int from = 0; from < memberships.size(); from += BATCH_SIZE) {
+            List<NewMembership> chunk = memberships.subList(from, Math.min(from + BATCH_SIZE, memberships.size()));
+            try {
+                jdbcTemplate.update(
+                        INSERT + String.join(", ", Collections.nCopies(chunk.size(), ROW)),
+                        arguments(groupId, chunk, joinedAt));
+                Arrays.fill(inserted, from, from + chunk.size(), true);
+            } catch (DuplicateKeyException ex) {
+                // the multi-row statement wrote nothing, so settle this chunk one row at a time
+                for (int i = 0; i < chunk.size(); i++) {
+                    inserted[from + i] = insertRow(groupId, chunk.get(i), joinedAt);
+                }
+            }
+        }
+        return inserted;
+    }
+
+    // a failed statement is rolled back on its own, so the surrounding transaction stays usable
+    private boolean insertRow(Long groupId, NewMembership membership, Timestamp joinedAt) {
+        try {
+            jdbcTemplate.update(INSERT + ROW, arguments(groupId, List.of(membership), joinedAt));
+            return true;
+        } catch (DuplicateKeyException ex) {
+            return false;
+        }
+    }
+
+    private static Object[] arguments(Long groupId, List<NewMembership> rows, Timestamp joinedAt) {
+        List<Object> arguments = new ArrayList<>(rows.size() * 4);
+        for (NewMembership row : rows) {
+            arguments.add(groupId);
+            arguments.add(row.userId());
+            arguments.add(row.role().name());
+            arguments.add(joinedAt);
+        }
+        return arguments.toArray();
+    }
+}
@@ -2,6 +2,8 @@ package com.groo.domain.group;
 
 import com.groo.domain.group.GroupStatus;
 import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,7 +12,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface GroupMembershipRepository extends JpaRepository<GroupMembership, Long> {
+public interface GroupMembershipRepository
+        extends JpaRepository<GroupMembership, Long>, GroupMembershipBulkRepository {
 
     @EntityGraph(attributePaths = {"group"})
     List<GroupMembership> findAllByUserId(Long userId);
@@ -20,8 +23,36 @@ public interface GroupMembershipRepository extends JpaRepository<GroupMembership
 
     Optional<GroupMembership> findByGroupIdAndUserId(Long groupId, Long userId);
 
+    @EntityGraph(attributePaths = {"user"})
+    List<GroupMembership> findByGroupIdAndRoleOrderByJoinedAtAscIdAsc(Long groupId, GroupRole role, Pageable limit);
+
+    @EntityGraph(attributePaths = {"user"})
+    @Query("""
+            SELECT m FROM GroupMembership m
+            WHERE m.group.id = :groupId
+            AND m.role = :role
+            AND (m.joinedAt > :joinedAt OR (m.joinedAt = :joinedAt AND m.id > :id))
+            ORDER BY m.joinedAt ASC, m.id ASC
+            """)
+    List<GroupMembership> findMembersAfter(
+            @Param("groupId") Long groupId,
+            @Param("role") GroupRole role,
+            @Param("joinedAt") LocalDateTime joinedAt,
+            @Param("id") Long id,
+            Pageable limit);
+
     long countByGroupId(Long groupId);
 
+    @Query("SELECT m.user.id FROM GroupMembership m WHERE m.group.id = :groupId AND m.user.id IN :userIds")
+    List<Long> findMemberUserIds(@Param("groupId") Long groupId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("""
+            SELECT new com.groo.domain.group.MembershipRole(m.group.id, m.role)
+            FROM GroupMembership m
+            WHERE m.user.id = :userId
+            """)
+    List<MembershipRole> findRolesByUserId(@Param("userId") Long userId);
+
     @EntityGraph(attributePaths = {"group"})
     @Query("""
             SELECT m FROM GroupMembership m
@@ -3,11 +3,34 @@ package com.groo.domain.group;
 import com.groo.domain.group.GroupStatus;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface GroupRepository extends JpaRepository<Group, Long> {
-    boolean existsByInvitationCode(String invitationCode);
-
     Optional<Group> findByInvitationCode(String invitationCode);
 
     long countByStatus(GroupStatus status);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE workspace_groups SET member_count = member_count + :delta WHERE id = :groupId",
+            nativeQuery = true)
+    int adjustMemberCount(@Param("groupId") Long groupId, @Param("delta") int delta);
+
+    @Query(value = "SELECT MAX(id) FROM workspace_groups", nativeQuery = true)
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE workspace_groups g
+            SET member_count = (SELECT COUNT(*) FROM group_memberships m WHERE m.group_id = g.id)
+                    - (SELECT COALESCE(SUM(d.delta), 0) FROM group_member_count_deltas d WHERE d.group_id = g.id)
+            WHERE g.id BETWEEN :fromId AND :toId
+            AND g.member_count <> (SELECT COUNT(*) FROM group_memberships m WHERE m.group_id = g.id)
+                    - (SELECT COALESCE(SUM(d.delta), 0) FROM group_member_count_deltas d WHERE d.group_id = g.id)
+            """, nativeQuery = true)
+    int reconcileMemberCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -0,0 +1,4 @@
+package com.groo.domain.group;
+
+public record MembershipRole(Long groupId, GroupRole role) {
+}
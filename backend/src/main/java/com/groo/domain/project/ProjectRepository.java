@@ -1,6 +1,7 @@
 package com.groo.domain.project;
 
 import com.groo.domain.project.ProjectStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,6 +12,31 @@ import org.springframework.data.repository.query.Param;
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByGroupIdOrderByCreatedAtDesc(Long groupId);
 
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.group.id = :groupId
+            AND (:status IS NULL OR p.status = :status)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findFirstPage(
+            @Param("groupId") Long groupId,
+            @Param("status") ProjectStatus status,
+            Pageable limit);
+
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.group.id = :groupId
+            AND (:status IS NULL OR p.status = :status)
+            AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id))
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<Project> findPageAfter(
+            @Param("groupId") Long groupId,
+            @Param("status") ProjectStatus status,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("id") Long id,
+            Pageable limit);
+
     @Query("""
             SELECT p FROM Project p
             WHERE p.group.id = :groupId
@@ -0,0 +1,74 @@
+package com.groo.domain.project;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Read model of a project's task counters. Rows are only written through the relative updates in
+ * {@link ProjectTaskStatsRepository}, so the entity is read-only.
+ */
+@Entity
+@Table(name = "project_task_stats")
+public class ProjectTaskStats {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int todoCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int doingCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int doneCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int lowCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int mediumCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int highCount;
+
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int overdueCount;
+
+    protected ProjectTaskStats() {}
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public int getTodoCount() {
+        return todoCount;
+    }
+
+    public int getDoingCount() {
+        return doingCount;
+    }
+
+    public int getDoneCount() {
+        return doneCount;
+    }
+
+    public int getLowCount() {
+        return lowCount;
+    }
+
+    public int getMediumCount() {
+        return mediumCount;
+    }
+
+    public int getHighCount() {
+        return highCount;
+    }
+
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+}
@@ -0,0 +1,110 @@
+package com.groo.domain.project;
+
+import java.time.Instant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface ProjectTaskStatsRepository extends JpaRepository<ProjectTaskStats, Long> {
+
+    @Modifying
+    @Query(value = """
+            UPDATE project_task_stats
+            SET todo_count = todo_count + :todo,
+                doing_count = doing_count + :doing,
+                done_count = done_count + :done,
+                low_count = low_count + :low,
+                medium_count = medium_count + :medium,
+                high_count = high_count + :high
+            WHERE project_id = :projectId
+            """, nativeQuery = true)
+    int applyDelta(
+            @Param("projectId") Long projectId,
+            @Param("todo") int todo,
+            @Param("doing") int doing,
+            @Param("done") int done,
+            @Param("low") int low,
+            @Param("medium") int medium,
+            @Param("high") int high);
+
+    /**
+     * Recounts one project's overdue tasks as seen by the current transaction. Overdue is never
+     * adjusted by a delta: a task can turn overdue without being written, so the stored count cannot
+     * tell whether it already includes that task.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE project_task_stats
+            SET overdue_count = (SELECT COUNT(*) FROM tasks t
+                                 WHERE t.project_id = :projectId AND t.due_date < :now AND t.status <> 'DONE')
+            WHERE project_id = :projectId
+            """, nativeQuery = true)
+    int recountOverdue(@Param("projectId") Long projectId, @Param("now") Instant now);
+
+    /**
+     * Recounts overdue tasks for the projects that have a task whose due date fell in
+     * {@code [since, now)}, i.e. the ones that gained an overdue task since the previous refresh.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE project_task_stats s
+            SET overdue_count = (SELECT COUNT(*) FROM tasks t
+                                 WHERE t.project_id = s.project_id AND t.due_date < :now AND t.status <> 'DONE')
+            WHERE s.project_id IN (SELECT d.project_id FROM tasks d WHERE d.due_date >= :since AND d.due_date < :now)
+            """, nativeQuery = true)
+    int recountOverdueDueBetween(@Param("since") Instant since, @Param("now") Instant now);
+
+    /**
+     * Creates a project's row from its tasks as seen by the current transaction. Returns 0 when the
+     * row already exists, e.g. because a concurrent transaction created it first.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT IGNORE INTO project_task_stats
+                (project_id, todo_count, doing_count, done_count, low_count, medium_count, high_count, overdue_count)
+            SELECT p.id,
+                   COUNT(CASE WHEN t.status = 'TODO' THEN 1 END),
+                   COUNT(CASE WHEN t.status = 'DOING' THEN 1 END),
+                   COUNT(CASE WHEN t.status = 'DONE' THEN 1 END),
+                   COUNT(CASE WHEN t.priority = 'LOW' THEN 1 END),
+                   COUNT(CASE WHEN t.priority = 'MEDIUM' THEN 1 END),
+                   COUNT(CASE WHEN t.priority = 'HIGH' THEN 1 END),
+                   COUNT(CASE WHEN t.due_date < :now AND t.status <> 'DONE' THEN 1 END)
+            FROM projects p
+            LEFT JOIN tasks t ON t.project_id = p.id
+            WHERE p.id = :projectId
+            GROUP BY p.id
+            """, nativeQuery = true)
+    int insertFromTasks(@Param("projectId") Long projectId, @Param("now") Instant now);
+
+    @Query(value = "SELECT MAX(id) FROM projects", nativeQuery = true)
+    Long findMaxProjectId();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO project_task_stats
+                (project_id, todo_count, doing_count, done_count, low_count, medium_count, high_count, overdue_count)
+            SELECT p.id, 0, 0, 0, 0, 0, 0, 0 FROM projects p WHERE p.id BETWEEN :fromId AND :toId
+            """, nativeQuery = true)
+    int insertMissing(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE project_task_stats s
+            SET todo_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.status = 'TODO'),
+                doing_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.status = 'DOING'),
+                done_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.status = 'DONE'),
+                low_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.priority = 'LOW'),
+                medium_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.priority = 'MEDIUM'),
+                high_count = (SELECT COUNT(*) FROM tasks t WHERE t.project_id = s.project_id AND t.priority = 'HIGH'),
+                overdue_count = (SELECT COUNT(*) FROM tasks t
+                                 WHERE t.project_id = s.project_id AND t.due_date < :now AND t.status <> 'DONE')
+            WHERE s.project_id BETWEEN :fromId AND :toId
+            """, nativeQuery = true)
+    int recount(@Param("fromId") long fromId, @Param("toId") long toId, @Param("now") Instant now);
+}
@@ -0,0 +1,15 @@
+package com.groo.domain.task;
+
+import com.groo.domain.group.GroupRole;
+import com.groo.domain.project.Project;
+
+/**
+ * A task loaded together with its project and the caller's role in the owning group; {@code role}
+ * is {@code null} when the caller is not a member.
+ */
+public record TaskAccess(Task task, Project project, GroupRole role) {
+
+    public boolean granted() {
+        return role != null;
+    }
+}
@@ -3,15 +3,25 @@ package com.groo.domain.task;
 import com.groo.domain.task.TaskPriority;
 import com.groo.domain.task.TaskStatus;
 import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSeekRepository, TaskStreamRepository {
     List<Task> findByProjectIdOrderByDueDateAsc(Long projectId);
 
+    @Query("""
+            SELECT new com.groo.domain.task.TaskAccess(t, p, m.role)
+            FROM Task t
+            JOIN t.project p
+            LEFT JOIN GroupMembership m ON m.group.id = p.group.id AND m.user.id = :userId
+            WHERE t.id = :taskId
+            """)
+    Optional<TaskAccess> findWithAccess(@Param("taskId") Long taskId, @Param("userId") Long userId);
+
     @Query("""
             SELECT t FROM Task t
             WHERE t.project.id = :projectId
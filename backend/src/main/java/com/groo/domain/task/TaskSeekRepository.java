@@ -0,0 +1,51 @@
+package com.groo.domain.task;
+
+import java.util.List;
+
+public interface TaskSeekRepository {
+
+    /**
+     * Reads up to {@code limit} tasks of a project that sort strictly after {@code after} (or from the
+     * start when null), ordered by the sort key and then id in the same direction. Due dates sort nulls
+     * last in both directions. Each key is read as a range on its (project_id, key, id) index, so the
+     * cost does not grow with the position, and no count is taken.
+     */
+    List<Task> seek(Filter filter, SortKey sortKey, boolean ascending, Position after, int limit);
+
+    record Filter(Long projectId, TaskStatus status, TaskPriority priority, String keyword) {
+    }
+
+    /**
+     * The sort key value and id of the last task returned. The value is an {@link java.time.Instant}
+     * (or null) for due dates, a {@link java.time.LocalDateTime} for creation time and the enum
+     * constant for priority and status.
+     */
+    record Position(Object key, Long id) {
+    }
+
+    enum SortKey {
+        DUE_DATE("dueDate"),
+        PRIORITY("priority"),
+        CREATED_AT("createdAt"),
+        STATUS("status");
+
+        private final String property;
+
+        SortKey(String property) {
+            this.property = property;
+        }
+
+        public String property() {
+            return property;
+        }
+
+        public Object keyOf(Task task) {
+            return switch (this) {
+                case DUE_DATE -> task.getDueDate();
+                case PRIORITY -> task.getPriority();
+                case CREATED_AT -> task.getCreatedAt();
+                case STATUS -> task.getStatus();
+            };
+        }
+    }
+}
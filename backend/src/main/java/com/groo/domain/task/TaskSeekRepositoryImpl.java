@@ -0,0 +1,101 @@
+package com.groo.domain.task;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class TaskSeekRepositoryImpl implements TaskSeekRepository {
+
+    private final EntityManager entityManager;
+
+    public TaskSeekRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Task> seek(Filter filter, SortKey sortKey, boolean ascending, Position after, int limit) {
+        if (sortKey != SortKey.DUE_DATE) {
+            return query(filter, sortKey, ascending, after, null, limit);
+        }
+        // the dated tasks and the undated tail are read as two separate ranges rather than one OR, so
+        // both stay index seeks
+        List<Task> tasks = new ArrayList<>();
+        if (after == null || after.key() != null) {
+            tasks.addAll(query(filter, sortKey, ascending, after, Boolean.FALSE, limit));
+        }
+        if (tasks.size() < limit) {
+            Position undatedAfter = after != null && after.key() == null ? after : null;
+            tasks.addAll(query(filter, sortKey, ascending, undatedAfter, Boolean.TRUE, limit - tasks.size()));
+        }
+        return tasks;
+    }
+
+    private List<Task> query(
+            Filter filter, SortKey sortKey, boolean ascending, Position after, Boolean keyIsNull, int limit) {
+        String key = "t." + sortKey.property();
+        String direction = ascending ? "ASC" : "DESC";
+        String comparison = ascending ? ">" : "<";
+        Map<String, Object> parameters = new HashMap<>();
+        StringBuilder jpql = new StringBuilder("SELECT t FROM Task t WHERE t.project.id = :projectId");
+        parameters.put("projectId", filter.projectId());
+        if (filter.status() != null) {
+            jpql.append(" AND t.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (filter.priority() != null) {
+            jpql.append(" AND t.priority = :priority");
+            parameters.put("priority", filter.priority());
+        }
+        if (filter.keyword() != null) {
+            jpql.append(" AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%'))"
+                    + " OR LOWER(COALESCE(t.description, '')) LIKE LOWER(CONCAT('%', :keyword, '%')))");
+            parameters.put("keyword", filter.keyword());
+        }
+        if (keyIsNull != null) {
+            jpql.append(keyIsNull ? " AND " + key + " IS NULL" : " AND " + key + " IS NOT NULL");
+        }
+        if (after != null) {
+            parameters.put("afterId", after.id());
+            if (after.key() == null) {
+                jpql.append(" AND t.id ").append(comparison).append(" :afterId");
+            } else {
+                parameters.put("afterKey", after.key());
+                jpql.append(" AND (").append(keyBeyond(key, after.key(), ascending, parameters))
+                        .append(" OR (").append(key).append(" = :afterKey AND t.id ")
+                        .append(comparison).append(" :afterId))");
+            }
+        }
+        jpql.append(" ORDER BY ").append(key).append(' ').append(direction)
+                .append(", t.id ").append(direction);
+
+        TypedQuery<Task> query = entityManager.createQuery(jpql.toString(), Task.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Enum columns are stored as their names, so they sort as strings; rather than comparing an enum
+     * path with {@code <}/{@code >}, list the constants whose names sort beyond the cursor's.
+     */
+    private String keyBeyond(String key, Object afterKey, boolean ascending, Map<String, Object> parameters) {
+        if (!(afterKey instanceof Enum<?> constant)) {
+            return key + (ascending ? " > " : " < ") + ":afterKey";
+        }
+        List<Object> beyond = Arrays.stream(constant.getDeclaringClass().getEnumConstants())
+                .filter(other -> {
+                    int order = other.name().compareTo(constant.name());
+                    return ascending ? order > 0 : order < 0;
+                })
+                .map(Object.class::cast)
+                .toList();
+        if (beyond.isEmpty()) {
+            return "1 = 0";
+        }
+        parameters.put("afterKeys", beyond);
+        return key + " IN :afterKeys";
+    }
+}
@@ -0,0 +1,15 @@
+package com.groo.domain.task;
+
+import com.groo.dto.TaskResponse;
+import java.util.function.Consumer;
+
+public interface TaskStreamRepository {
+
+    /**
+     * Forward-only read of a project's tasks as response rows, so nothing is added to the persistence
+     * context. Runs in its own read-only transaction and hands each row to {@code sink} while the
+     * cursor is open; on MySQL the rows are streamed from the server one at a time instead of being
+     * buffered by the driver, and the connection runs no other statement until the read finishes.
+     */
+    void forEachByProjectId(Long projectId, Consumer<TaskResponse> sink);
+}
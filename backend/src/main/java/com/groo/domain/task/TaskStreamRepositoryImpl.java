@@ -0,0 +1,43 @@
+package com.groo.domain.task;
+
+import com.groo.dto.TaskResponse;
+import jakarta.persistence.EntityManager;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TaskStreamRepositoryImpl implements TaskStreamRepository {
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+
+    // Integer.MIN_VALUE is Connector/J's row-streaming signal; it applies to this query only, so the
+    // rest of the application keeps the driver's default fully buffered result sets
+    public TaskStreamRepositoryImpl(
+            EntityManager entityManager,
+            @Value("${app.tasks.stream-fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize) {
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachByProjectId(Long projectId, Consumer<TaskResponse> sink) {
+        Stream<TaskResponse> rows = entityManager.createQuery("""
+                        SELECT new com.groo.dto.TaskResponse(
+                            t.id, t.project.id, t.title, t.description, t.assigneeId, t.status, t.priority,
+                            t.dueDate, t.createdBy.id, t.createdAt, t.updatedAt)
+                        FROM Task t
+                        WHERE t.project.id = :projectId
+                        ORDER BY t.dueDate ASC, t.id ASC
+                        """, TaskResponse.class)
+                .setParameter("projectId", projectId)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .getResultStream();
+        try (rows) {
+            rows.forEach(sink);
+        }
+    }
+}
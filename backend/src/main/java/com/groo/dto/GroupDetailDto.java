@@ -16,9 +16,11 @@ public record GroupDetailDto(
         String invitationCode,
         LocalDateTime createdAt,
         LocalDateTime updatedAt,
-        List<GroupMemberDto> members) {
+        List<GroupMemberDto> members,
+        String membersNextCursor) {
 
-    public static GroupDetailDto of(Group group, GroupRole myRole, long memberCount, List<GroupMemberDto> members) {
+    public static GroupDetailDto of(
+            Group group, GroupRole myRole, long memberCount, CursorPageResponse<GroupMemberDto> firstMembers) {
         return new GroupDetailDto(
                 group.getId(),
                 group.getName(),
@@ -29,6 +31,7 @@ public record GroupDetailDto(
                 group.getInvitationCode(),
                 group.getCreatedAt(),
                 group.getUpdatedAt(),
-                members);
+                firstMembers.content(),
+                firstMembers.nextCursor());
     }
 }
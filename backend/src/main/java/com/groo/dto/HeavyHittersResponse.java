@@ -0,0 +1,19 @@
+package com.groo.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record HeavyHittersResponse(
+        Instant windowStart,
+        long windowSeconds,
+        List<Offender> current,
+        List<Offender> previous,
+        List<Ban> bans) {
+
+    /**
+     * @param estimatedCost rate-limit cost units spent in the window; may overcount slightly, never under
+     */
+    public record Offender(String key, long estimatedCost) {}
+
+    public record Ban(String key, Instant until) {}
+}
@@ -0,0 +1,29 @@
+package com.groo.dto;
+
+import com.groo.domain.group.GroupRole;
+import java.util.List;
+
+public record MemberImportReport(
+        int total,
+        int added,
+        int skipped,
+        List<Row> rows) {
+
+    public enum Status {
+        ADDED,
+        ALREADY_MEMBER,
+        USER_NOT_FOUND,
+        DUPLICATE_IN_REQUEST,
+        INVALID_EMAIL,
+        INVALID_ROLE,
+        ROLE_NOT_ALLOWED
+    }
+
+    public record Row(int row, String email, GroupRole role, Status status) {
+    }
+
+    public static MemberImportReport of(List<Row> rows) {
+        int added = (int) rows.stream().filter(row -> row.status() == Status.ADDED).count();
+        return new MemberImportReport(rows.size(), added, rows.size() - added, rows);
+    }
+}
@@ -0,0 +1,38 @@
+package com.groo.dto;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public record MemberImportRequest(@NotNull List<Row> members) {
+
+    public record Row(String email, String role) {
+    }
+
+    /**
+     * Reads {@code email[,role]} lines; blank lines and a leading {@code email,role} header are skipped
+     * and surrounding double quotes are stripped from each value.
+     */
+    public static MemberImportRequest fromCsv(String csv) {
+        List<Row> rows = new ArrayList<>();
+        String[] lines = csv == null ? new String[0] : csv.split("\\R");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || (rows.isEmpty() && line.toLowerCase(Locale.ROOT).startsWith("email"))) {
+                continue;
+            }
+            String[] columns = line.split(",", -1);
+            rows.add(new Row(unquote(columns[0]), columns.length > 1 ? unquote(columns[1]) : null));
+        }
+        return new MemberImportRequest(rows);
+    }
+
+    private static String unquote(String value) {
+        String trimmed = value.strip();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).strip();
+        }
+        return trimmed;
+    }
+}
@@ -12,9 +12,10 @@ public record ProjectResponse(
         ProjectStatus status,
         Long createdBy,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt) {
+        LocalDateTime updatedAt,
+        TaskStatsResponse taskStats) {
 
-    public static ProjectResponse from(Project project) {
+    public static ProjectResponse from(Project project, TaskStatsResponse taskStats) {
         return new ProjectResponse(
                 project.getId(),
                 project.getGroup().getId(),
@@ -23,6 +24,7 @@ public record ProjectResponse(
                 project.getStatus(),
                 project.getCreatedBy().getId(),
                 project.getCreatedAt(),
-                project.getUpdatedAt());
+                project.getUpdatedAt(),
+                taskStats);
     }
 }
@@ -0,0 +1,37 @@
+package com.groo.dto;
+
+import com.groo.domain.project.ProjectTaskStats;
+import com.groo.domain.task.TaskPriority;
+import com.groo.domain.task.TaskStatus;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record TaskStatsResponse(
+        Map<TaskStatus, Integer> byStatus,
+        Map<TaskPriority, Integer> byPriority,
+        int overdue) {
+
+    public static TaskStatsResponse from(ProjectTaskStats stats) {
+        Map<TaskStatus, Integer> byStatus = new EnumMap<>(TaskStatus.class);
+        byStatus.put(TaskStatus.TODO, stats.getTodoCount());
+        byStatus.put(TaskStatus.DOING, stats.getDoingCount());
+        byStatus.put(TaskStatus.DONE, stats.getDoneCount());
+        Map<TaskPriority, Integer> byPriority = new EnumMap<>(TaskPriority.class);
+        byPriority.put(TaskPriority.LOW, stats.getLowCount());
+        byPriority.put(TaskPriority.MEDIUM, stats.getMediumCount());
+        byPriority.put(TaskPriority.HIGH, stats.getHighCount());
+        return new TaskStatsResponse(byStatus, byPriority, stats.getOverdueCount());
+    }
+
+    public static TaskStatsResponse empty() {
+        Map<TaskStatus, Integer> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0);
+        }
+        Map<TaskPriority, Integer> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0);
+        }
+        return new TaskStatsResponse(byStatus, byPriority, 0);
+    }
+}
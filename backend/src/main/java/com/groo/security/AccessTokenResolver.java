@@ -0,0 +1,63 @@
+package com.groo.security;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Resolves the bearer token of a request and verifies it at most once, memoizing the outcome as a
+ * request attribute so every later consumer (filters, logout) reuses the parsed claims.
+ */
+@Component
+public class AccessTokenResolver {
+
+    private static final String ATTRIBUTE = AccessTokenResolver.class.getName() + ".VERIFIED_TOKEN";
+    private static final Object UNVERIFIED = new Object();
+
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public AccessTokenResolver(JwtTokenProvider jwtTokenProvider) {
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    public Optional<VerifiedToken> resolve(HttpServletRequest request) {
+        Object cached = request.getAttribute(ATTRIBUTE);
+        if (cached == UNVERIFIED) {
+            return Optional.empty();
+        }
+        if (cached instanceof VerifiedToken verified) {
+            return Optional.of(verified);
+        }
+        String token = resolveBearer(request.getHeader(HttpHeaders.AUTHORIZATION));
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token)
+                .map(claims -> new VerifiedToken(token, claims));
+        request.setAttribute(ATTRIBUTE, verified.<Object>map(v -> v).orElse(UNVERIFIED));
+        return verified;
+    }
+
+    private String resolveBearer(String bearerToken) {
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
+    public record VerifiedToken(String token, Claims claims) {
+
+        /**
+         * Compact unique id used as the blacklist key. Tokens issued before the jti claim existed fall
+         * back to the full compact string until they expire.
+         */
+        public String tokenId() {
+            String jti = claims.getId();
+            return StringUtils.hasText(jti) ? jti : token;
+        }
+
+        public Long userId() {
+            return claims.get("userId", Long.class);
+        }
+    }
+}
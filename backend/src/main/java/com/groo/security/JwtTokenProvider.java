@@ -3,36 +3,50 @@ package com.groo.security;
 import com.groo.config.JwtProperties;
 import com.groo.domain.user.User;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
 import javax.crypto.SecretKey;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final JwtProperties properties;
     private final SecretKey key;
+    private final JwtParser parser;
     private final UserDetailsService userDetailsService;
+    private final UserStateCache userStateCache;
+    private final SecureRandom secureRandom = new SecureRandom();
 
-    public JwtTokenProvider(JwtProperties properties, UserDetailsService userDetailsService) {
+    public JwtTokenProvider(
+            JwtProperties properties, UserDetailsService userDetailsService, UserStateCache userStateCache) {
         this.properties = properties;
         this.userDetailsService = userDetailsService;
+        this.userStateCache = userStateCache;
         this.key = Keys.hmacShaKeyFor(properties.getSecret().getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String generateAccessToken(User user) {
         Instant expiry = Instant.now().plus(properties.getAccessTokenExpirationMinutes(), ChronoUnit.MINUTES);
         return Jwts.builder()
+                .setId(newTokenId())
                 .setSubject(user.getEmail())
                 .setIssuedAt(new Date())
                 .setExpiration(Date.from(expiry))
@@ -42,15 +56,10 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public String generateRefreshToken(User user) {
-        Instant expiry = Instant.now().plus(properties.getRefreshTokenExpirationDays(), ChronoUnit.DAYS);
-        return Jwts.builder()
-                .setSubject(user.getEmail())
-                .setIssuedAt(new Date())
-                .setExpiration(Date.from(expiry))
-                .claim("type", "refresh")
-                .signWith(key)
-                .compact();
+    private String newTokenId() {
+        byte[] bytes = new byte[16];
+        secureRandom.nextBytes(bytes);
+        return TOKEN_ID_ENCODER.encodeToString(bytes);
     }
 
     public Instant getRefreshTokenExpiryInstant() {
@@ -61,38 +70,46 @@ public class JwtTokenProvider {
         return properties.getAccessTokenExpirationMinutes() * 60;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Parses and verifies the token exactly once; callers should pass the returned claims along
+     * instead of re-parsing the compact string.
+     */
+    public Optional<Claims> verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            return Optional.empty();
+        }
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (Exception ex) {
-            return false;
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
         }
     }
 
-    public Claims getClaims(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
-    }
-
-    public Duration getRemainingValidity(String token) {
-        try {
-            Instant expiration = getClaims(token).getExpiration().toInstant();
-            Instant now = Instant.now();
-            if (expiration.isBefore(now)) {
-                return Duration.ZERO;
-            }
-            return Duration.between(now, expiration);
-        } catch (ExpiredJwtException ex) {
-            return Duration.ZERO;
-        } catch (JwtException ex) {
+    public Duration getRemainingValidity(Claims claims) {
+        Instant expiration = claims.getExpiration().toInstant();
+        Instant now = Instant.now();
+        if (expiration.isBefore(now)) {
             return Duration.ZERO;
         }
+        return Duration.between(now, expiration);
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        var userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = properties.isClaimsOnlyAuthentication()
+                ? principalFromClaims(claims)
+                : userDetailsService.loadUserByUsername(claims.getSubject());
+        if (userDetails == null) {
+            return null;
+        }
         return new org.springframework.security.authentication.UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities());
     }
+
+    private UserPrincipal principalFromClaims(Claims claims) {
+        Long userId = claims.get("userId", Long.class);
+        return userStateCache.get(userId)
+                .filter(UserStateCache.UserState::isActive)
+                .map(state -> UserPrincipal.of(state.id(), state.email(), state.role()))
+                .orElse(null);
+    }
 }
@@ -3,15 +3,17 @@ package com.groo.security;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.groo.common.ApiResponse;
 import com.groo.config.RateLimitProperties;
+import com.groo.security.ratelimit.HeavyHitterTracker;
+import com.groo.security.ratelimit.RouteTable;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Optional;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
@@ -21,11 +23,21 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class RateLimitingFilter extends OncePerRequestFilter {
 
     private final RateLimitProperties properties;
+    private final RouteTable routes;
+    private final AccessTokenResolver accessTokenResolver;
+    private final HeavyHitterTracker heavyHitters;
     private final ObjectMapper objectMapper;
-    private final Map<String, RequestWindow> counters = new ConcurrentHashMap<>();
 
-    public RateLimitingFilter(RateLimitProperties properties, ObjectMapper objectMapper) {
+    public RateLimitingFilter(
+            RateLimitProperties properties,
+            RouteTable routes,
+            AccessTokenResolver accessTokenResolver,
+            HeavyHitterTracker heavyHitters,
+            ObjectMapper objectMapper) {
         this.properties = properties;
+        this.routes = routes;
+        this.accessTokenResolver = accessTokenResolver;
+        this.heavyHitters = heavyHitters;
         this.objectMapper = objectMapper;
     }
 
@@ -40,12 +52,28 @@ public class RateLimitingFilter extends OncePerRequestFilter {
             return;
         }
 
-        String key = request.getRemoteAddr();
-        if (isAllowed(key)) {
+        RouteTable.Route route = routes.match(request.getMethod(), pathWithinApplication(request));
+        if (route.cost() == 0) {
             filterChain.doFilter(request, response);
             return;
         }
+        String principal = principalKey(request);
+        Optional<Instant> bannedUntil = heavyHitters.bannedUntil(principal);
+        if (bannedUntil.isPresent()) {
+            long seconds = Duration.between(Instant.now(), bannedUntil.get()).toSeconds();
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds)));
+            reject(response);
+            return;
+        }
+        heavyHitters.record(principal, route.cost());
+        if (route.limiter().tryAcquire(route.scope() + ':' + principal, route.cost())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(response);
+    }
 
+    private void reject(HttpServletResponse response) throws IOException {
         response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         ApiResponse<Void> apiResponse = ApiResponse.error(
@@ -54,23 +82,22 @@ public class RateLimitingFilter extends OncePerRequestFilter {
         response.getWriter().write(objectMapper.writeValueAsString(apiResponse));
     }
 
-    private boolean isAllowed(String key) {
-        RequestWindow window = counters.computeIfAbsent(key, k -> new RequestWindow());
-        synchronized (window) {
-            Instant now = Instant.now();
-            if (now.isAfter(window.windowStart.plusSeconds(properties.getWindowSeconds()))) {
-                window.windowStart = now;
-                window.counter.set(0);
-            }
-            if (window.counter.incrementAndGet() > properties.getMaxRequests()) {
-                return false;
-            }
-        }
-        return true;
+    /**
+     * Authenticated callers are limited per user id taken from the verified token (shared with the JWT
+     * filter, so no extra parse or DB hit); anonymous callers per remote address.
+     */
+    private String principalKey(HttpServletRequest request) {
+        return accessTokenResolver.resolve(request)
+                .map(AccessTokenResolver.VerifiedToken::userId)
+                .map(userId -> "user:" + userId)
+                .orElseGet(() -> "ip:" + request.getRemoteAddr());
     }
 
-    private static final class RequestWindow {
-        private Instant windowStart = Instant.now();
-        private final AtomicInteger counter = new AtomicInteger(0);
+    private String pathWithinApplication(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        String contextPath = request.getContextPath();
+        return contextPath != null && !contextPath.isEmpty() && uri.startsWith(contextPath)
+                ? uri.substring(contextPath.length())
+                : uri;
     }
 }
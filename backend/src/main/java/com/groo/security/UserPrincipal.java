@@ -26,6 +26,10 @@ public class UserPrincipal implements UserDetails {
         return new UserPrincipal(user.getId(), user.getEmail(), user.getPassword(), user.getRole());
     }
 
+    public static UserPrincipal of(Long id, String email, Role role) {
+        return new UserPrincipal(id, email, null, role);
+    }
+
     public Long getId() {
         return id;
     }
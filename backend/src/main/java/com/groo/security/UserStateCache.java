@@ -0,0 +1,140 @@
+package com.groo.security;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.groo.common.CircuitBreaker;
+import com.groo.common.GuardedExecutor;
+import com.groo.config.JwtProperties;
+import com.groo.domain.user.Role;
+import com.groo.domain.user.User;
+import com.groo.domain.user.UserRepository;
+import com.groo.domain.user.UserStatus;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, short-lived cache of the user attributes that can invalidate an otherwise valid access token.
+ * Evictions are broadcast over Redis once committed so every node stops trusting the old state, not
+ * only the one that handled the change; the TTL bounds staleness if a broadcast is lost.
+ */
+@Component
+public class UserStateCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStateCache.class);
+
+    private final UserRepository userRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final boolean pubSubEnabled;
+    private final LoadingCache<Long, UserState> states;
+    private final GuardedExecutor redisCalls;
+
+    public UserStateCache(
+            UserRepository userRepository,
+            JwtProperties properties,
+            StringRedisTemplate redisTemplate,
+            @Value("${app.redis.pubsub.enabled:true}") boolean pubSubEnabled) {
+        this.userRepository = userRepository;
+        this.redisTemplate = redisTemplate;
+        this.channel = properties.getUserStateChannel();
+        this.pubSubEnabled = pubSubEnabled;
+        this.states = Caffeine.newBuilder()
+                .maximumSize(properties.getUserStateCacheMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getUserStateCacheTtlSeconds()))
+                .build(this::load);
+        this.redisCalls = new GuardedExecutor(
+                "user-state-events", new CircuitBreaker(5, Duration.ofSeconds(30), null),
+                Duration.ofMillis(200), 2, 256);
+    }
+
+    public Optional<UserState> get(Long userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(states.get(userId));
+    }
+
+    /**
+     * Drops the cached state now and again once the surrounding transaction completes, so a concurrent
+     * reload cannot re-cache the pre-commit row. Other nodes are notified on commit.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        states.invalidate(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcastEviction(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                states.invalidate(userId);
+                if (status == STATUS_COMMITTED) {
+                    broadcastEviction(userId);
+                }
+            }
+        });
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            states.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring malformed user state event");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        redisCalls.close();
+    }
+
+    private UserState load(Long userId) {
+        return userRepository.findById(userId)
+                .map(UserState::from)
+                .orElse(null);
+    }
+
+    private void broadcastEviction(Long userId) {
+        if (!pubSubEnabled) {
+            return;
+        }
+        boolean sent = redisCalls.call(() -> {
+            redisTemplate.convertAndSend(channel, String.valueOf(userId));
+            return Boolean.TRUE;
+        }).isPresent();
+        if (!sent) {
+            log.warn("Failed to broadcast state change for user {}; peers refresh within the cache TTL", userId);
+        }
+    }
+
+    public record UserState(Long id, String email, Role role, UserStatus status) {
+
+        static UserState from(User user) {
+            return new UserState(user.getId(), user.getEmail(), user.getRole(), user.getStatus());
+        }
+
+        public boolean isActive() {
+            return status == UserStatus.ACTIVE;
+        }
+    }
+}
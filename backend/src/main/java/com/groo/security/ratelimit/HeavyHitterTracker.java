@@ -0,0 +1,161 @@
+package com.groo.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groo.config.RateLimitProperties;
+import com.groo.dto.HeavyHittersResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Finds the keys (users, addresses) spending the most rate-limit cost in constant memory: every
+ * request is added to a Count-Min Sketch, and only keys whose estimate beats the smallest of the
+ * current top K are considered for the top-K table. Windows are tumbling; the previous one is kept
+ * for reporting. Keys that cross {@code autoBanThreshold} within a window are banned temporarily.
+ */
+@Component
+public class HeavyHitterTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(HeavyHitterTracker.class);
+
+    private final RateLimitProperties properties;
+    private final long windowMillis;
+    private final AtomicReference<Window> current;
+    private volatile Window previous;
+    private final Cache<String, Instant> bans;
+
+    public HeavyHitterTracker(RateLimitProperties properties) {
+        this.properties = properties;
+        this.windowMillis = Duration.ofSeconds(properties.getHeavyHitterWindowSeconds()).toMillis();
+        this.current = new AtomicReference<>(newWindow(System.currentTimeMillis()));
+        this.bans = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofSeconds(properties.getAutoBanSeconds()))
+                .build();
+    }
+
+    public void record(String key, int cost) {
+        if (!properties.isHeavyHittersEnabled() || key == null || cost <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Window window = windowAt(now);
+        long estimate = window.sketch.add(key, cost);
+        if (estimate > window.floor || window.top.containsKey(key)) {
+            window.offer(key, estimate);
+        }
+        long threshold = properties.getAutoBanThreshold();
+        if (threshold > 0 && estimate >= threshold && bans.getIfPresent(key) == null) {
+            bans.put(key, Instant.ofEpochMilli(now).plusSeconds(properties.getAutoBanSeconds()));
+            log.warn("Temporarily banning {} after ~{} rate-limit units within {} s",
+                    key, estimate, properties.getHeavyHitterWindowSeconds());
+        }
+    }
+
+    public Optional<Instant> bannedUntil(String key) {
+        if (key == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(bans.getIfPresent(key));
+    }
+
+    public HeavyHittersResponse snapshot() {
+        Window window = windowAt(System.currentTimeMillis());
+        Window last = previous;
+        List<HeavyHittersResponse.Ban> activeBans = bans.asMap().entrySet().stream()
+                .map(entry -> new HeavyHittersResponse.Ban(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(HeavyHittersResponse.Ban::until).reversed())
+                .toList();
+        return new HeavyHittersResponse(
+                Instant.ofEpochMilli(window.startedAt),
+                properties.getHeavyHitterWindowSeconds(),
+                window.ranked(),
+                last != null ? last.ranked() : List.of(),
+                activeBans);
+    }
+
+    private Window windowAt(long now) {
+        while (true) {
+            Window window = current.get();
+            if (now - window.startedAt < windowMillis) {
+                return window;
+            }
+            long start = window.startedAt + (now - window.startedAt) / windowMillis * windowMillis;
+            Window next = newWindow(start);
+            if (current.compareAndSet(window, next)) {
+                previous = window;
+                return next;
+            }
+        }
+    }
+
+    private Window newWindow(long startedAt) {
+        return new Window(
+                startedAt,
+                new CountMinSketch(properties.getHeavyHitterSketchWidth(), properties.getHeavyHitterSketchDepth()),
+                Math.max(1, properties.getHeavyHitterTopK()));
+    }
+
+    private static final class Window {
+
+        private final long startedAt;
+        private final CountMinSketch sketch;
+        private final int capacity;
+        private final Map<String, Long> top = new ConcurrentHashMap<>();
+        /** Smallest estimate in a full table; newcomers at or below it cannot enter. */
+        private volatile long floor;
+
+        private Window(long startedAt, CountMinSketch sketch, int capacity) {
+            this.startedAt = startedAt;
+            this.sketch = sketch;
+            this.capacity = capacity;
+        }
+
+        void offer(String key, long estimate) {
+            // tracked keys are refreshed without the lock; eviction below cannot resurrect them
+            if (top.computeIfPresent(key, (k, old) -> Math.max(old, estimate)) != null) {
+                return;
+            }
+            synchronized (this) {
+                if (top.computeIfPresent(key, (k, old) -> Math.max(old, estimate)) != null) {
+                    return;
+                }
+                if (top.size() < capacity) {
+                    top.put(key, estimate);
+                } else {
+                    Map.Entry<String, Long> smallest = smallest();
+                    if (estimate <= smallest.getValue()) {
+                        floor = smallest.getValue();
+                        return;
+                    }
+                    top.remove(smallest.getKey());
+                    top.put(key, estimate);
+                }
+                floor = top.size() < capacity ? 0 : smallest().getValue();
+            }
+        }
+
+        List<HeavyHittersResponse.Offender> ranked() {
+            return top.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .map(entry -> new HeavyHittersResponse.Offender(entry.getKey(), entry.getValue()))
+                    .toList();
+        }
+
+        private Map.Entry<String, Long> smallest() {
+            return top.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                    .orElseThrow();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.groo.security.ratelimit;
+
+public interface RateLimiter {
+
+    /**
+     * Takes {@code permits} from the allowance of {@code key}. Returns {@code false} when the caller
+     * should be throttled; nothing is consumed in that case.
+     */
+    boolean tryAcquire(String key, int permits);
+}
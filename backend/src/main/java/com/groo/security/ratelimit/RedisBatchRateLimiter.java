@@ -0,0 +1,156 @@
+package com.groo.security.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groo.common.GuardedExecutor;
+import com.groo.config.RateLimitProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Cluster-wide token bucket kept in Redis. Instead of one round trip per request, a node takes up to
+ * {@code redisBatchSize} tokens per call (atomically, in a Lua script) and spends them locally for at
+ * most {@code redisLeaseMillis}; unspent tokens simply lapse, so the cluster can under-admit by at most
+ * one batch per node per lease but never over-admit. A key Redis has refused is not asked again until
+ * its next token is due.
+ *
+ * <p>While Redis is unreachable (call deadline missed or circuit open) decisions follow
+ * {@code redisFallback}: the per-node limiter, allow everything, or deny everything.
+ */
+public class RedisBatchRateLimiter implements RateLimiter {
+
+    private static final String PREFIX = "ratelimit:";
+    private static final int PERMIT_BITS = 24;
+    private static final long PERMIT_MASK = (1L << PERMIT_BITS) - 1;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScript<List> script;
+    private final GuardedExecutor redisCalls;
+    private final RateLimiter localFallback;
+    private final RateLimitProperties.Fallback fallback;
+    private final int capacity;
+    private final String tokensPerMilli;
+    private final int batchSize;
+    private final long leaseMillis;
+    private final LongSupplier clock;
+    private final long epoch;
+    private final Cache<String, Lease> leases;
+
+    public RedisBatchRateLimiter(
+            StringRedisTemplate redisTemplate,
+            GuardedExecutor redisCalls,
+            RateLimiter localFallback,
+            int capacity,
+            Duration refillPeriod,
+            RateLimitProperties properties) {
+        this(redisTemplate, redisCalls, localFallback, capacity, refillPeriod, properties, System::currentTimeMillis);
+    }
+
+    RedisBatchRateLimiter(
+            StringRedisTemplate redisTemplate,
+            GuardedExecutor redisCalls,
+            RateLimiter localFallback,
+            int capacity,
+            Duration refillPeriod,
+            RateLimitProperties properties,
+            LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.script = RedisScript.of(new ClassPathResource("redis/rate_limit_batch.lua"), List.class);
+        this.redisCalls = redisCalls;
+        this.localFallback = localFallback;
+        this.fallback = properties.getRedisFallback();
+        this.capacity = capacity;
+        this.tokensPerMilli = Double.toString((double) capacity / Math.max(1, refillPeriod.toMillis()));
+        this.batchSize = Math.max(1, Math.min(properties.getRedisBatchSize(), capacity));
+        this.leaseMillis = Math.max(1, properties.getRedisLeaseMillis());
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+        this.leases = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxTrackedClients())
+                .expireAfterAccess(Duration.ofMillis(leaseMillis * 2))
+                .build();
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int permits) {
+        if (permits <= 0) {
+            return true;
+        }
+        if (key == null || permits > capacity) {
+            return false;
+        }
+        long now = now();
+        Lease lease = leases.get(key, k -> new Lease());
+        if (lease.deniedUntil > now) {
+            return false;
+        }
+        if (lease.take(permits, now)) {
+            return true;
+        }
+        Optional<List> reply = redisCalls.call(() -> redisTemplate.execute(
+                script, List.of(PREFIX + key),
+                Integer.toString(capacity), tokensPerMilli, Integer.toString(Math.max(batchSize, permits))));
+        if (reply.isEmpty() || reply.get().size() < 2) {
+            return fallback(key, permits);
+        }
+        long granted = ((Number) reply.get().get(0)).longValue();
+        if (granted == 0) {
+            long wait = ((Number) reply.get().get(1)).longValue();
+            lease.deniedUntil = now + Math.min(Math.max(wait, 1), leaseMillis);
+            return false;
+        }
+        lease.add(granted, now, now + leaseMillis);
+        return lease.take(permits, now);
+    }
+
+    private boolean fallback(String key, int permits) {
+        return switch (fallback) {
+            case LOCAL -> localFallback.tryAcquire(key, permits);
+            case ALLOW -> true;
+            case DENY -> false;
+        };
+    }
+
+    private long now() {
+        return Math.max(0, clock.getAsLong() - epoch);
+    }
+
+    /**
+     * Locally held tokens for one key, packed as lease expiry (upper 40 bits) and permits (lower 24).
+     */
+    private static final class Lease {
+
+        private final AtomicLong state = new AtomicLong();
+        private volatile long deniedUntil;
+
+        boolean take(int permits, long now) {
+            while (true) {
+                long current = state.get();
+                if (current >>> PERMIT_BITS <= now || (current & PERMIT_MASK) < permits) {
+                    return false;
+                }
+                if (state.compareAndSet(current, current - permits)) {
+                    return true;
+                }
+            }
+        }
+
+        void add(long granted, long now, long expiresAt) {
+            while (true) {
+                long current = state.get();
+                long held = current >>> PERMIT_BITS > now ? current & PERMIT_MASK : 0;
+                long permits = Math.min(PERMIT_MASK, held + granted);
+                if (state.compareAndSet(current, (expiresAt << PERMIT_BITS) | permits)) {
+                    return;
+                }
+            }
+        }
+    }
+}
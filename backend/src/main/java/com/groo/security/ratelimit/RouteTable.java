@@ -0,0 +1,119 @@
+package com.groo.security.ratelimit;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Rate-limit policies compiled into a path-segment trie, so a lookup walks the request path once
+ * instead of testing every pattern. Literal segments win over {@code *}, which wins over a trailing
+ * {@code **}; a policy bound to an HTTP method wins over one that is not.
+ */
+public class RouteTable {
+
+    private static final String ANY_METHOD = "*";
+
+    private final Node root = new Node();
+    private final Route defaultRoute;
+
+    public RouteTable(Route defaultRoute) {
+        this.defaultRoute = defaultRoute;
+    }
+
+    public RouteTable register(String method, String pattern, Route route) {
+        Node node = root;
+        List<String> segments = split(pattern);
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if ("**".equals(segment)) {
+                if (i != segments.size() - 1) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + pattern);
+                }
+                node.remainder.put(methodKey(method), route);
+                return this;
+            }
+            if ("*".equals(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.terminal.put(methodKey(method), route);
+        return this;
+    }
+
+    public Route match(String method, String path) {
+        String upperMethod = method == null ? ANY_METHOD : method.toUpperCase(Locale.ROOT);
+        Route route = match(root, split(path), 0, upperMethod);
+        return route != null ? route : defaultRoute;
+    }
+
+    private Route match(Node node, List<String> segments, int index, String method) {
+        if (index == segments.size()) {
+            Route route = pick(node.terminal, method);
+            return route != null ? route : pick(node.remainder, method);
+        }
+        Node literal = node.literals.get(segments.get(index));
+        if (literal != null) {
+            Route route = match(literal, segments, index + 1, method);
+            if (route != null) {
+                return route;
+            }
+        }
+        if (node.wildcard != null) {
+            Route route = match(node.wildcard, segments, index + 1, method);
+            if (route != null) {
+                return route;
+            }
+        }
+        return pick(node.remainder, method);
+    }
+
+    private static Route pick(Map<String, Route> routes, String method) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        Route route = routes.get(method);
+        return route != null ? route : routes.get(ANY_METHOD);
+    }
+
+    private static String methodKey(String method) {
+        return method == null || method.isBlank() ? ANY_METHOD : method.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int length = path.length();
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) {
+                segments.add(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    /**
+     * @param scope prefix that separates the budget this route draws from
+     * @param cost tokens taken per request; 0 exempts the route
+     */
+    public record Route(String scope, int cost, RateLimiter limiter) {
+    }
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Route> terminal = new HashMap<>(2);
+        private final Map<String, Route> remainder = new HashMap<>(2);
+        private Node wildcard;
+    }
+}
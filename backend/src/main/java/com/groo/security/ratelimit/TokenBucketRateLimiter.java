@@ -0,0 +1,200 @@
+package com.groo.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free per-key token bucket. Each bucket is a single {@link AtomicLong} packing the last refill
+ * time (upper 40 bits, milliseconds since the limiter was created) and the available tokens (lower
+ * 24 bits), so an admit is one CAS and a rejection is a plain read.
+ *
+ * <p>Buckets that have been idle long enough to refill completely are swept opportunistically; since
+ * a fresh bucket starts full, dropping one is indistinguishable from keeping it. Once
+ * {@code maxTrackedKeys} buckets exist, a new key first triggers a (rate-limited) reclaim of every
+ * bucket that is full again, whatever its idle time; if the table is still full, only that new key is
+ * refused. Known clients are never pooled with strangers, so rotating keys cannot throttle them.
+ */
+public class TokenBucketRateLimiter implements RateLimiter {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    public static final int MAX_CAPACITY = (int) TOKEN_MASK;
+    /** Marks a bucket removed by the sweep; acquirers that observe it look the key up again. */
+    private static final long EVICTED = -1L;
+    private static final long RECLAIM_INTERVAL_MILLIS = 250;
+
+    private final int capacity;
+    private final double tokensPerMilli;
+    private final long idleMillis;
+    private final long sweepIntervalMillis;
+    private final int maxTrackedKeys;
+    private final LongSupplier clock;
+    private final long epoch;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong anonymous;
+    private final AtomicLong nextSweepAt;
+    private final AtomicLong nextReclaimAt = new AtomicLong();
+
+    /**
+     * @param capacity burst size, refilled in full over {@code refillPeriod}
+     * @param idleEviction minimum time since the last refill before a full bucket may be dropped
+     * @param maxTrackedKeys hard cap on the number of buckets kept
+     */
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, Duration idleEviction, int maxTrackedKeys) {
+        this(capacity, refillPeriod, idleEviction, maxTrackedKeys, System::currentTimeMillis);
+    }
+
+    TokenBucketRateLimiter(
+            int capacity,
+            Duration refillPeriod,
+            Duration idleEviction,
+            int maxTrackedKeys,
+            LongSupplier clock) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        this.capacity = capacity;
+        this.tokensPerMilli = (double) capacity / Math.max(1, refillPeriod.toMillis());
+        this.idleMillis = Math.max(0, idleEviction.toMillis());
+        this.sweepIntervalMillis = Math.max(1_000, idleMillis / 2);
+        this.maxTrackedKeys = Math.max(1, maxTrackedKeys);
+        this.clock = clock;
+        this.epoch = clock.getAsLong();
+        this.anonymous = new AtomicLong(pack(0, capacity));
+        this.nextSweepAt = new AtomicLong(sweepIntervalMillis);
+    }
+
+    @Override
+    public boolean tryAcquire(String key, int permits) {
+        if (permits <= 0) {
+            return true;
+        }
+        long now = now();
+        maybeSweep(now);
+        while (true) {
+            AtomicLong bucket = bucketFor(key, now);
+            if (bucket == null) {
+                return false;
+            }
+            long state;
+            long next;
+            do {
+                state = bucket.get();
+                if (state == EVICTED) {
+                    break;
+                }
+                long refilled = refill(state, now);
+                if (tokens(refilled) < permits) {
+                    return false;
+                }
+                next = refilled - permits;
+            } while (!bucket.compareAndSet(state, next));
+            if (state != EVICTED) {
+                return true;
+            }
+            buckets.remove(key, bucket);
+        }
+    }
+
+    public int trackedKeys() {
+        return buckets.size();
+    }
+
+    /**
+     * Drops every bucket that would be full by now and has not refilled for {@code idleEviction}.
+     */
+    void sweep(long now) {
+        evictWhere(state -> isIdle(state, now));
+    }
+
+    /**
+     * Drops every bucket that has refilled completely, regardless of how recently it was used. This is
+     * as lossless as the idle sweep, just less cheap, so it only runs when the table is full.
+     */
+    void reclaim(long now) {
+        evictWhere(state -> tokens(refill(state, now)) >= capacity);
+    }
+
+    private void evictWhere(LongPredicate evictable) {
+        for (Map.Entry<String, AtomicLong> entry : buckets.entrySet()) {
+            AtomicLong bucket = entry.getValue();
+            long state = bucket.get();
+            if (state != EVICTED && evictable.test(state) && bucket.compareAndSet(state, EVICTED)) {
+                buckets.remove(entry.getKey(), bucket);
+            }
+        }
+    }
+
+    private void maybeSweep(long now) {
+        long due = nextSweepAt.get();
+        if (now >= due && nextSweepAt.compareAndSet(due, now + sweepIntervalMillis)) {
+            sweep(now);
+        }
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        if (key == null) {
+            return anonymous;
+        }
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxTrackedKeys) {
+            long due = nextReclaimAt.get();
+            if (now >= due && nextReclaimAt.compareAndSet(due, now + RECLAIM_INTERVAL_MILLIS)) {
+                reclaim(now);
+            }
+            if (buckets.size() >= maxTrackedKeys) {
+                return null;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacity)));
+    }
+
+    private boolean isIdle(long state, long now) {
+        return now - stamp(state) >= idleMillis && tokens(refill(state, now)) >= capacity;
+    }
+
+    private long refill(long state, long now) {
+        long stamp = stamp(state);
+        long elapsed = now - stamp;
+        if (elapsed <= 0) {
+            return state;
+        }
+        int tokens = tokens(state);
+        if (tokens >= capacity) {
+            return pack(now, capacity);
+        }
+        long added = (long) (elapsed * tokensPerMilli);
+        if (added == 0) {
+            return state;
+        }
+        if (tokens + added >= capacity) {
+            return pack(now, capacity);
+        }
+        // advance only by the time that paid for whole tokens so the fraction carries into the next refill
+        long spent = Math.min(elapsed, Math.round(added / tokensPerMilli));
+        return pack(stamp + spent, tokens + (int) added);
+    }
+
+    private long now() {
+        return Math.max(0, clock.getAsLong() - epoch);
+    }
+
+    private static long pack(long stamp, int tokens) {
+        return (stamp << TOKEN_BITS) | tokens;
+    }
+
+    private static long stamp(long state) {
+        return state >>> TOKEN_BITS;
+    }
+
+    private static int tokens(long state) {
+        return (int) (state & TOKEN_MASK);
+    }
+}
@@ -1,9 +1,9 @@
 package com.groo.service;
 
+import com.groo.common.RequestCoalescer;
+import com.groo.common.TokenDigests;
 import com.groo.common.exception.BusinessException;
 import com.groo.common.exception.ErrorCode;
-import com.groo.domain.auth.RefreshToken;
-import com.groo.domain.auth.RefreshTokenRepository;
 import com.groo.domain.user.Role;
 import com.groo.domain.user.SocialProvider;
 import com.groo.domain.user.User;
@@ -14,121 +14,186 @@ import com.groo.dto.LoginRequest;
 import com.groo.dto.RefreshTokenRequest;
 import com.groo.dto.RegisterRequest;
 import com.groo.dto.SocialLoginRequest;
+import com.groo.security.AccessTokenResolver.VerifiedToken;
 import com.groo.security.JwtTokenProvider;
 import com.groo.service.oauth.FirebaseTokenVerifier;
 import com.groo.service.oauth.GoogleTokenVerifier;
+import com.groo.service.oauth.SocialIdentityCache;
 import jakarta.transaction.Transactional;
-import java.util.UUID;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.Optional;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
 @Service
 @Transactional
 public class AuthService {
 
+    /** Stored for social accounts; not a BCrypt hash, so no password can ever match it. */
+    private static final String SOCIAL_ACCOUNT_PASSWORD = "!social-login";
+
     private final UserRepository userRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingService passwordHashingService;
     private final JwtTokenProvider jwtTokenProvider;
     private final GoogleTokenVerifier googleTokenVerifier;
     private final FirebaseTokenVerifier firebaseTokenVerifier;
+    private final SocialIdentityCache socialIdentityCache;
     private final TokenBlacklistService tokenBlacklistService;
+    private final RequestCoalescer<String, AuthResponse> refreshCoalescer;
+    private final TransactionTemplate transactionTemplate;
 
     public AuthService(
             UserRepository userRepository,
-            RefreshTokenRepository refreshTokenRepository,
-            PasswordEncoder passwordEncoder,
+            RefreshTokenService refreshTokenService,
+            PasswordHashingService passwordHashingService,
             JwtTokenProvider jwtTokenProvider,
             GoogleTokenVerifier googleTokenVerifier,
             FirebaseTokenVerifier firebaseTokenVerifier,
-            TokenBlacklistService tokenBlacklistService) {
+            SocialIdentityCache socialIdentityCache,
+            TokenBlacklistService tokenBlacklistService,
+            TransactionTemplate transactionTemplate) {
         this.userRepository = userRepository;
-        this.refreshTokenRepository = refreshTokenRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.refreshTokenService = refreshTokenService;
+        this.passwordHashingService = passwordHashingService;
         this.jwtTokenProvider = jwtTokenProvider;
         this.googleTokenVerifier = googleTokenVerifier;
         this.firebaseTokenVerifier = firebaseTokenVerifier;
+        this.socialIdentityCache = socialIdentityCache;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.refreshCoalescer = new RequestCoalescer<>();
+        this.transactionTemplate = transactionTemplate;
     }
 
+    // Hashing takes tens of milliseconds and may queue; run it outside a transaction so a login burst
+    // does not hold pooled connections while waiting. The user and its first refresh token are then
+    // written together, so a failed token insert never leaves an account behind.
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public AuthResponse register(RegisterRequest request) {
         userRepository.findByEmail(request.email()).ifPresent(user -> {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         });
-        User user = new User(request.email(), passwordEncoder.encode(request.password()), request.displayName());
-        user.setRole(Role.USER);
-        user.setProvider(SocialProvider.LOCAL);
-        userRepository.save(user);
-        return issueTokens(user);
+        String passwordHash = passwordHashingService.encode(request.password());
+        return transactionTemplate.execute(status -> {
+            User user = new User(request.email(), passwordHash, request.displayName());
+            user.setRole(Role.USER);
+            user.setProvider(SocialProvider.LOCAL);
+            userRepository.save(user);
+            return issueTokens(user);
+        });
     }
 
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_CREDENTIALS));
         if (user.getStatus() == UserStatus.DEACTIVATED) {
             throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
         }
-        if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.password(), user.getPassword())) {
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
+        upgradePasswordHash(user, request.password());
         return issueTokens(user);
     }
 
     public AuthResponse loginWithGoogle(SocialLoginRequest request) {
-        var profile = googleTokenVerifier.verify(request.idToken());
-        if (!StringUtils.hasText(profile.email())) {
-            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
-        }
-        User user = userRepository.findByEmail(profile.email())
-                .orElseGet(() -> createSocialUser(profile.email(), profile.name(), SocialProvider.GOOGLE, profile.id()));
-        return issueTokens(user);
+        String idToken = request.idToken();
+        return cachedSocialUser(SocialProvider.GOOGLE, idToken).map(this::completeSocialLogin).orElseGet(() -> {
+            var profile = googleTokenVerifier.verify(idToken);
+            if (!StringUtils.hasText(profile.email())) {
+                throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+            }
+            User user = resolveSocialUser(SocialProvider.GOOGLE, profile.id(), profile.email(), profile.name());
+            AuthResponse response = completeSocialLogin(user);
+            socialIdentityCache.remember(SocialProvider.GOOGLE, idToken, profile.expiresAt(), user.getId());
+            return response;
+        });
     }
 
     public AuthResponse loginWithFirebase(SocialLoginRequest request) {
-        var profile = firebaseTokenVerifier.verify(request.idToken());
-        String resolvedEmail = profile.email();
-        if (resolvedEmail == null) {
-            resolvedEmail = profile.uid() + "@firebase.local";
-        }
-        final String finalEmail = resolvedEmail;
-        User user = userRepository.findByEmail(finalEmail)
-                .orElseGet(() -> createSocialUser(finalEmail, profile.name(), SocialProvider.FIREBASE, profile.uid()));
-        return issueTokens(user);
+        String idToken = request.idToken();
+        return cachedSocialUser(SocialProvider.FIREBASE, idToken).map(this::completeSocialLogin).orElseGet(() -> {
+            var profile = firebaseTokenVerifier.verify(idToken);
+            String email = profile.email() != null ? profile.email() : profile.uid() + "@firebase.local";
+            User user = resolveSocialUser(SocialProvider.FIREBASE, profile.uid(), email, profile.name());
+            AuthResponse response = completeSocialLogin(user);
+            socialIdentityCache.remember(SocialProvider.FIREBASE, idToken, profile.expiresAt(), user.getId());
+            return response;
+        });
     }
 
+    /**
+     * Rotates the refresh token. Concurrent refreshes with the same token (several tabs firing at once)
+     * share the rotation still in progress; once it returns, the token is consumed and a retry fails.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
     public AuthResponse refresh(RefreshTokenRequest request) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
-                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
-        if (refreshToken.isRevoked()) {
-            throw new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND);
-        }
-        if (refreshToken.isExpired()) {
-            throw new BusinessException(ErrorCode.TOKEN_EXPIRED);
-        }
-        User user = refreshToken.getUser();
-        return issueTokens(user);
+        return refreshCoalescer.execute(TokenDigests.sha256Hex(request.refreshToken()), () -> {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.refreshToken());
+            return new AuthResponse(
+                    jwtTokenProvider.generateAccessToken(rotation.user()),
+                    rotation.refreshToken(),
+                    jwtTokenProvider.getAccessTokenExpirySeconds());
+        });
     }
 
-    public void logout(RefreshTokenRequest request, String accessToken) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.refreshToken())
-                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
-        refreshToken.revoke();
-        if (StringUtils.hasText(accessToken)) {
-            tokenBlacklistService.blacklist(accessToken, jwtTokenProvider.getRemainingValidity(accessToken));
+    public void logout(RefreshTokenRequest request, VerifiedToken accessToken) {
+        refreshCoalescer.forget(TokenDigests.sha256Hex(request.refreshToken()));
+        refreshTokenService.revoke(request.refreshToken());
+        if (accessToken != null) {
+            tokenBlacklistService.blacklist(
+                    accessToken.tokenId(), jwtTokenProvider.getRemainingValidity(accessToken.claims()));
         }
     }
 
     private AuthResponse issueTokens(User user) {
         String accessToken = jwtTokenProvider.generateAccessToken(user);
-        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
-        refreshTokenRepository.save(new RefreshToken(user, refreshToken, jwtTokenProvider.getRefreshTokenExpiryInstant()));
+        String refreshToken = refreshTokenService.issue(user);
         return new AuthResponse(accessToken, refreshToken, jwtTokenProvider.getAccessTokenExpirySeconds());
     }
 
+    /**
+     * Re-hashes with the current BCrypt cost after a successful login. Best effort: a saturated pool
+     * only postpones the upgrade to a later login.
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordHashingService.needsUpgrade(user.getPassword())) {
+            return;
+        }
+        try {
+            String upgraded = passwordHashingService.encode(rawPassword);
+            userRepository.updatePassword(user.getId(), user.getPassword(), upgraded);
+        } catch (BusinessException ex) {
+            if (ex.getErrorCode() != ErrorCode.SERVICE_BUSY) {
+                throw ex;
+            }
+        }
+    }
+
+    private Optional<User> cachedSocialUser(SocialProvider provider, String idToken) {
+        return socialIdentityCache.userIdFor(provider, idToken).flatMap(userRepository::findById);
+    }
+
+    private User resolveSocialUser(SocialProvider provider, String providerId, String email, String displayName) {
+        Optional<User> linked = StringUtils.hasText(providerId)
+                ? userRepository.findByProviderAndProviderId(provider, providerId)
+                : Optional.empty();
+        return linked
+                .or(() -> userRepository.findByEmail(email))
+                .orElseGet(() -> createSocialUser(email, displayName, provider, providerId));
+    }
+
+    private AuthResponse completeSocialLogin(User user) {
+        if (user.getStatus() == UserStatus.DEACTIVATED) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
+        }
+        return issueTokens(user);
+    }
+
     private User createSocialUser(String email, String displayName, SocialProvider provider, String providerId) {
         String resolvedName = StringUtils.hasText(displayName) ? displayName : email;
-        User user = new User(email, passwordEncoder.encode(UUID.randomUUID().toString()), resolvedName);
+        User user = new User(email, SOCIAL_ACCOUNT_PASSWORD, resolvedName);
         user.setProvider(provider);
         user.setProviderId(providerId);
         return userRepository.save(user);
@@ -0,0 +1,75 @@
+package com.groo.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Lets a scheduled job run on one node per interval: every node fires its own schedule, and only the
+ * one that sets the Redis key first runs the job. The key is held for the whole lease, not released
+ * when the job finishes, so nodes whose schedules fire later in the same interval skip it too. A node
+ * that dies mid-run frees the job when the lease lapses. When Redis cannot be reached the run is
+ * skipped; the next interval tries again.
+ */
+@Component
+public class ClusterJobLock {
+
+    private static final String PREFIX = "scheduler:lock:";
+    private static final RedisScript<Long> RELEASE = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+    private static final Logger log = LoggerFactory.getLogger(ClusterJobLock.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+
+    public ClusterJobLock(
+            StringRedisTemplate redisTemplate,
+            @Value("${app.redis.scheduler-lock.enabled:true}") boolean enabled) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Runs {@code job} if no other node holds {@code name}, keeping the lock for {@code lease}. Returns
+     * whether the job ran here. A failed job releases the lock so another node can retry it.
+     */
+    public boolean runExclusively(String name, Duration lease, Runnable job) {
+        if (!enabled) {
+            job.run();
+            return true;
+        }
+        String key = PREFIX + name;
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, lease))) {
+                return false;
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Skipping {}: cannot take its cluster lock: {}", name, ex.getMessage());
+            return false;
+        }
+        try {
+            job.run();
+            return true;
+        } catch (RuntimeException ex) {
+            release(key, token);
+            throw ex;
+        }
+    }
+
+    private void release(String key, String token) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(key), token);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to release {}; it lapses with its lease: {}", key, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.groo.service;
+
+import com.groo.domain.group.GroupMemberCountDelta;
+import com.groo.domain.group.GroupMemberCountDeltaRepository;
+import com.groo.domain.group.GroupRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Buffers member_count changes as rows in group_member_count_deltas, written in the transaction that
+ * caused them, and folds them into workspace_groups as one relative update per group per flush, so
+ * hundreds of simultaneous joins do not queue on the same group row. Because the buffer is durable,
+ * nothing is lost in a crash and {@link GroupService#reconcileMemberCounts()} can subtract the deltas
+ * not folded yet instead of counting them twice.
+ */
+@Component
+public class GroupMemberCountBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupMemberCountBuffer.class);
+    /** Returned by a fold that lost its rows to a fold running on another node. */
+    private static final int CONFLICT = -1;
+
+    private final GroupMemberCountDeltaRepository deltaRepository;
+    private final GroupRepository groupRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public GroupMemberCountBuffer(
+            GroupMemberCountDeltaRepository deltaRepository,
+            GroupRepository groupRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${app.groups.member-count-flush-batch-size:500}") int batchSize) {
+        this.deltaRepository = deltaRepository;
+        this.groupRepository = groupRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /** Must run in the transaction that writes the membership change. */
+    public void add(Long groupId, int delta) {
+        deltaRepository.save(new GroupMemberCountDelta(groupId, delta));
+    }
+
+    @Scheduled(fixedDelayString = "${app.groups.member-count-flush-interval-ms:1000}")
+    public void flush() {
+        try {
+            Integer folded;
+            do {
+                folded = transactionTemplate.execute(this::foldBatch);
+            } while (folded != null && (folded == CONFLICT || folded == batchSize));
+        } catch (DataAccessException ex) {
+            log.warn("Failed to flush member count deltas; retrying on the next run: {}", ex.getMessage());
+        }
+    }
+
+    private int foldBatch(TransactionStatus status) {
+        List<GroupMemberCountDelta> batch = deltaRepository.findOldest(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        // deleting first claims the rows: a concurrent fold blocks on them, then deletes fewer and backs off
+        List<Long> ids = batch.stream().map(GroupMemberCountDelta::getId).toList();
+        if (deltaRepository.deleteByIds(ids) != ids.size()) {
+            status.setRollbackOnly();
+            return CONFLICT;
+        }
+        Map<Long, Integer> byGroup = new TreeMap<>();
+        for (GroupMemberCountDelta delta : batch) {
+            byGroup.merge(delta.getGroupId(), delta.getDelta(), Integer::sum);
+        }
+        // ascending group ids so concurrent folds and reconciles lock group rows in the same order
+        byGroup.forEach((groupId, delta) -> {
+            if (delta != 0) {
+                groupRepository.adjustMemberCount(groupId, delta);
+            }
+        });
+        return batch.size();
+    }
+}
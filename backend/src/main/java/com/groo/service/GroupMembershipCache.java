@@ -0,0 +1,154 @@
+package com.groo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groo.common.CircuitBreaker;
+import com.groo.common.GuardedExecutor;
+import com.groo.domain.group.GroupMembershipRepository;
+import com.groo.domain.group.GroupRole;
+import com.groo.domain.group.MembershipRole;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Near-cache of each user's group roles (groupId to role), loaded with a single query the first time
+ * a user is authorized and reused until one of their memberships changes. Evictions are applied after
+ * the changing transaction completes and broadcast over Redis so other nodes drop their copy too; the
+ * TTL bounds staleness if a broadcast is lost.
+ */
+@Component
+public class GroupMembershipCache implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupMembershipCache.class);
+
+    private final GroupMembershipRepository membershipRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final boolean pubSubEnabled;
+    private final Cache<Long, Map<Long, GroupRole>> rolesByUser;
+    private final GuardedExecutor redisCalls;
+
+    public GroupMembershipCache(
+            GroupMembershipRepository membershipRepository,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.groups.membership-cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.groups.membership-cache.max-size:50000}") long maxSize,
+            @Value("${app.groups.membership-cache.channel:groups:membership:events}") String channel,
+            @Value("${app.redis.pubsub.enabled:true}") boolean pubSubEnabled) {
+        this.membershipRepository = membershipRepository;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.pubSubEnabled = pubSubEnabled;
+        this.rolesByUser = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.redisCalls = new GuardedExecutor(
+                "membership-events", new CircuitBreaker(5, Duration.ofSeconds(30), null),
+                Duration.ofMillis(200), 2, 256);
+        CaffeineCacheMetrics.monitor(meterRegistry, rolesByUser, "groo.membership");
+    }
+
+    public Optional<GroupRole> roleOf(Long userId, Long groupId) {
+        return Optional.ofNullable(rolesOf(userId).get(groupId));
+    }
+
+    public Map<Long, GroupRole> rolesOf(Long userId) {
+        return rolesByUser.get(userId, this::load);
+    }
+
+    /**
+     * Drops the user's cached roles now and again once the surrounding transaction completes, so a
+     * concurrent request cannot re-cache the pre-commit state. Other nodes are notified on commit.
+     */
+    public void evictAfterCommit(Long userId) {
+        evictAfterCommit(List.of(userId));
+    }
+
+    public void evictAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        rolesByUser.invalidateAll(userIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcastEviction(userIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                rolesByUser.invalidateAll(userIds);
+                if (status == STATUS_COMMITTED) {
+                    broadcastEviction(userIds);
+                }
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        rolesByUser.invalidate(userId);
+    }
+
+    public void evictAll() {
+        rolesByUser.invalidateAll();
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            for (String userId : body.split(",")) {
+                rolesByUser.invalidate(Long.parseLong(userId));
+            }
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring malformed membership event");
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        redisCalls.close();
+    }
+
+    private Map<Long, GroupRole> load(Long userId) {
+        return membershipRepository.findRolesByUserId(userId).stream()
+                .collect(Collectors.toUnmodifiableMap(MembershipRole::groupId, MembershipRole::role));
+    }
+
+    private void broadcastEviction(Collection<Long> userIds) {
+        if (!pubSubEnabled) {
+            return;
+        }
+        String body = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        boolean sent = redisCalls.call(() -> {
+            redisTemplate.convertAndSend(channel, body);
+            return Boolean.TRUE;
+        }).isPresent();
+        if (!sent) {
+            log.warn("Failed to broadcast membership change for users {}; peers refresh within the cache TTL", body);
+        }
+    }
+}
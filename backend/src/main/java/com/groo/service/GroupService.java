@@ -1,9 +1,11 @@
 package com.groo.service;
 
+import com.groo.common.CursorCodec;
 import com.groo.common.exception.BusinessException;
 import com.groo.common.exception.ErrorCode;
 import com.groo.domain.group.Group;
 import com.groo.domain.group.GroupMembership;
+import com.groo.domain.group.GroupMembershipBulkRepository;
 import com.groo.domain.group.GroupMembershipRepository;
 import com.groo.domain.group.GroupRepository;
 import com.groo.domain.group.GroupRole;
@@ -12,19 +14,36 @@ import com.groo.domain.user.User;
 import com.groo.domain.user.UserRepository;
 import com.groo.dto.AddGroupMemberRequest;
 import com.groo.dto.CreateGroupRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.GroupDetailDto;
 import com.groo.dto.GroupMemberDto;
 import com.groo.dto.GroupSummaryDto;
 import com.groo.dto.JoinGroupRequest;
+import com.groo.dto.MemberImportReport;
+import com.groo.dto.MemberImportRequest;
 import com.groo.dto.PageResponse;
 import com.groo.dto.UpdateGroupRequest;
 import com.groo.security.UserPrincipal;
 import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -32,6 +51,10 @@ import org.springframework.util.StringUtils;
 @Transactional
 public class GroupService {
 
+    private static final Logger log = LoggerFactory.getLogger(GroupService.class);
+    private static final int DETAIL_MEMBER_PAGE_SIZE = 20;
+    private static final int MAX_IMPORT_ROWS = 1000;
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
     private static final Comparator<GroupMembership> MEMBER_COMPARATOR =
             Comparator.comparing(GroupMembership::getRole)
                     .thenComparing(GroupMembership::getJoinedAt);
@@ -39,53 +62,74 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final GroupMembershipRepository membershipRepository;
     private final UserRepository userRepository;
+    private final GroupMembershipCache membershipCache;
+    private final InvitationCodeCache invitationCodes;
+    private final InvitationCodeGenerator invitationCodeGenerator;
+    private final GroupMemberCountBuffer memberCountBuffer;
+    private final ClusterJobLock clusterJobLock;
+    private final int reconcileBatchSize;
+    private final Duration reconcileLease;
 
     public GroupService(
             GroupRepository groupRepository,
             GroupMembershipRepository membershipRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            GroupMembershipCache membershipCache,
+            InvitationCodeCache invitationCodes,
+            InvitationCodeGenerator invitationCodeGenerator,
+            GroupMemberCountBuffer memberCountBuffer,
+            ClusterJobLock clusterJobLock,
+            @Value("${app.groups.member-count-reconcile-batch-size:1000}") int reconcileBatchSize,
+            @Value("${app.groups.member-count-reconcile-interval-ms:3600000}") long reconcileIntervalMs) {
         this.groupRepository = groupRepository;
         this.membershipRepository = membershipRepository;
         this.userRepository = userRepository;
+        this.membershipCache = membershipCache;
+        this.invitationCodes = invitationCodes;
+        this.invitationCodeGenerator = invitationCodeGenerator;
+        this.memberCountBuffer = memberCountBuffer;
+        this.clusterJobLock = clusterJobLock;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+        // held for most of the interval so nodes whose schedules fire later in it skip the run
+        this.reconcileLease = Duration.ofMillis(reconcileIntervalMs * 9 / 10);
     }
 
     public List<GroupSummaryDto> myGroups(UserPrincipal principal) {
         Long userId = requirePrincipal(principal);
         return membershipRepository.findAllByUserId(userId).stream()
                 .sorted(Comparator.comparing((GroupMembership m) -> m.getGroup().getCreatedAt()).reversed())
-                .map(membership -> {
-                    long memberCount = membershipRepository.countByGroupId(membership.getGroup().getId());
-                    return GroupSummaryDto.of(membership.getGroup(), membership.getRole(), memberCount);
-                })
+                .map(this::toSummaryDto)
                 .toList();
     }
 
     public GroupDetailDto createGroup(CreateGroupRequest request, UserPrincipal principal) {
         User owner = fetchCurrentUser(principal);
         Group group = new Group(request.name(), request.description(), owner);
-        assignUniqueInvitationCode(group);
+        group.assignInvitationCode(invitationCodeGenerator.next());
         Group saved = groupRepository.save(group);
         membershipRepository.save(new GroupMembership(saved, owner, GroupRole.OWNER));
+        changeMemberCount(saved, 1);
+        membershipCache.evictAfterCommit(owner.getId());
         return toDetailDto(saved, GroupRole.OWNER);
     }
 
     public GroupDetailDto getGroup(Long groupId, UserPrincipal principal) {
-        GroupMembership membership = requireMembership(groupId, requirePrincipal(principal));
-        return toDetailDto(membership.getGroup(), membership.getRole());
+        GroupRole myRole = requireMembership(groupId, requirePrincipal(principal));
+        return toDetailDto(fetchGroup(groupId), myRole);
     }
 
     public GroupDetailDto updateGroup(Long groupId, UpdateGroupRequest request, UserPrincipal principal) {
-        GroupMembership membership = requireMembership(groupId, requirePrincipal(principal));
-        ensureManagerPrivileges(membership);
-        Group group = membership.getGroup();
+        GroupRole myRole = requireMembership(groupId, requirePrincipal(principal));
+        ensureManagerPrivileges(myRole);
+        Group group = fetchGroup(groupId);
         group.setName(request.name());
         group.setDescription(request.description());
-        if (request.archived()) {
-            group.setStatus(GroupStatus.ARCHIVED);
-        } else {
-            group.setStatus(GroupStatus.ACTIVE);
+        GroupStatus status = request.archived() ? GroupStatus.ARCHIVED : GroupStatus.ACTIVE;
+        if (group.getStatus() != status) {
+            group.setStatus(status);
+            invitationCodes.evictAfterCompletion(group.getInvitationCode());
         }
-        return toDetailDto(group, membership.getRole());
+        return toDetailDto(group, myRole);
     }
 
     public List<GroupMemberDto> listMembers(Long groupId, UserPrincipal principal) {
@@ -96,9 +140,16 @@ public class GroupService {
                 .toList();
     }
 
+    public CursorPageResponse<GroupMemberDto> listMemberPage(
+            Long groupId, String cursor, int size, UserPrincipal principal) {
+        requireMembership(groupId, requirePrincipal(principal));
+        MemberPosition after = StringUtils.hasText(cursor) ? MemberPosition.decode(cursor) : null;
+        return memberPage(groupId, after, Math.min(Math.max(size, 1), 100));
+    }
+
     public GroupMemberDto addMember(Long groupId, AddGroupMemberRequest request, UserPrincipal principal) {
-        GroupMembership myMembership = requireMembership(groupId, requirePrincipal(principal));
-        ensureManagerPrivileges(myMembership);
+        GroupRole myRole = requireMembership(groupId, requirePrincipal(principal));
+        ensureManagerPrivileges(myRole);
         User target = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         membershipRepository.findByGroupIdAndUserId(groupId, target.getId())
@@ -106,17 +157,95 @@ public class GroupService {
                     throw new BusinessException(ErrorCode.GROUP_MEMBER_ALREADY_EXISTS);
                 });
         GroupRole role = request.role() == null ? GroupRole.MEMBER : request.role();
-        if (role != GroupRole.MEMBER && myMembership.getRole() != GroupRole.OWNER) {
+        if (role != GroupRole.MEMBER && myRole != GroupRole.OWNER) {
             throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
         }
-        GroupMembership created = new GroupMembership(myMembership.getGroup(), target, role);
+        GroupMembership created = new GroupMembership(groupRepository.getReferenceById(groupId), target, role);
         membershipRepository.save(created);
+        groupRepository.adjustMemberCount(groupId, 1);
+        membershipCache.evictAfterCommit(target.getId());
         return GroupMemberDto.from(created);
     }
 
+    /**
+     * Adds many members at once: users are resolved with one IN query, existing members filtered with
+     * another, and the rest inserted in JDBC batches. Every input row gets a status in the report.
+     */
+    public MemberImportReport importMembers(Long groupId, MemberImportRequest request, UserPrincipal principal) {
+        GroupRole myRole = requireMembership(groupId, requirePrincipal(principal));
+        ensureManagerPrivileges(myRole);
+        List<MemberImportRequest.Row> input = request.members();
+        if (input.isEmpty() || input.size() > MAX_IMPORT_ROWS) {
+            throw new BusinessException(ErrorCode.VALIDATION_FAILED);
+        }
+
+        MemberImportReport.Row[] results = new MemberImportReport.Row[input.size()];
+        Map<String, Integer> rowByEmail = new LinkedHashMap<>();
+        for (int i = 0; i < input.size(); i++) {
+            String email = input.get(i).email() == null ? "" : input.get(i).email().trim();
+            GroupRole role = parseImportRole(input.get(i).role());
+            MemberImportReport.Status rejection = null;
+            if (!EMAIL.matcher(email).matches()) {
+                rejection = MemberImportReport.Status.INVALID_EMAIL;
+            } else if (role == null) {
+                rejection = MemberImportReport.Status.INVALID_ROLE;
+            } else if (role != GroupRole.MEMBER && myRole != GroupRole.OWNER) {
+                rejection = MemberImportReport.Status.ROLE_NOT_ALLOWED;
+            } else if (rowByEmail.putIfAbsent(email.toLowerCase(Locale.ROOT), i) != null) {
+                rejection = MemberImportReport.Status.DUPLICATE_IN_REQUEST;
+            }
+            results[i] = new MemberImportReport.Row(i + 1, email, role, rejection);
+        }
+
+        Map<String, User> users = new HashMap<>();
+        if (!rowByEmail.isEmpty()) {
+            List<String> emails = rowByEmail.values().stream().map(index -> results[index].email()).toList();
+            userRepository.findAllByEmailIn(emails)
+                    .forEach(user -> users.put(user.getEmail().toLowerCase(Locale.ROOT), user));
+        }
+        List<Long> candidateIds = users.values().stream().map(User::getId).toList();
+        Set<Long> existing = candidateIds.isEmpty()
+                ? Set.of()
+                : new HashSet<>(membershipRepository.findMemberUserIds(groupId, candidateIds));
+
+        List<Integer> pendingRows = new ArrayList<>();
+        List<GroupMembershipBulkRepository.NewMembership> pending = new ArrayList<>();
+        rowByEmail.forEach((email, index) -> {
+            User user = users.get(email);
+            if (user == null) {
+                results[index] = withStatus(results[index], MemberImportReport.Status.USER_NOT_FOUND);
+            } else if (existing.contains(user.getId())) {
+                results[index] = withStatus(results[index], MemberImportReport.Status.ALREADY_MEMBER);
+            } else {
+                pendingRows.add(index);
+                pending.add(new GroupMembershipBulkRepository.NewMembership(user.getId(), results[index].role()));
+            }
+        });
+
+        List<Long> addedUserIds = new ArrayList<>();
+        if (!pending.isEmpty()) {
+            boolean[] insertedRows = membershipRepository.insertAllIfAbsent(groupId, pending);
+            for (int i = 0; i < insertedRows.length; i++) {
+                int index = pendingRows.get(i);
+                // a row not inserted means a concurrent request added the user between the filter and the insert
+                boolean inserted = insertedRows[i];
+                results[index] = withStatus(results[index], inserted
+                        ? MemberImportReport.Status.ADDED
+                        : MemberImportReport.Status.ALREADY_MEMBER);
+                if (inserted) {
+                    addedUserIds.add(pending.get(i).userId());
+                }
+            }
+        }
+        if (!addedUserIds.isEmpty()) {
+            groupRepository.adjustMemberCount(groupId, addedUserIds.size());
+            membershipCache.evictAfterCommit(addedUserIds);
+        }
+        return MemberImportReport.of(List.of(results));
+    }
+
     public void removeMember(Long groupId, Long membershipId, UserPrincipal principal) {
-        GroupMembership myMembership = requireMembership(groupId, requirePrincipal(principal));
-        ensureManagerPrivileges(myMembership);
+        ensureManagerPrivileges(requireMembership(groupId, requirePrincipal(principal)));
         GroupMembership target = membershipRepository.findById(membershipId)
                 .filter(member -> member.getGroup().getId().equals(groupId))
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_MEMBER_NOT_FOUND));
@@ -124,22 +253,26 @@ public class GroupService {
             throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
         }
         membershipRepository.delete(target);
+        groupRepository.adjustMemberCount(groupId, -1);
+        membershipCache.evictAfterCommit(target.getUser().getId());
     }
 
     public GroupDetailDto joinByInvitation(JoinGroupRequest request, UserPrincipal principal) {
-        String normalized = request.invitationCode().trim().toUpperCase(Locale.ROOT);
-        Group group = groupRepository.findByInvitationCode(normalized)
+        Long userId = requirePrincipal(principal);
+        String normalized = InvitationCodeGenerator.normalize(request.invitationCode());
+        InvitationCodeCache.Invitation invitation = invitationCodes.resolve(normalized)
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVITATION_INVALID));
-        if (group.getStatus() == GroupStatus.ARCHIVED) {
+        if (invitation.status() == GroupStatus.ARCHIVED) {
             throw new BusinessException(ErrorCode.GROUP_ARCHIVED);
         }
-        Long userId = requirePrincipal(principal);
-        membershipRepository.findByGroupIdAndUserId(group.getId(), userId)
-                .ifPresent(m -> {
-                    throw new BusinessException(ErrorCode.GROUP_MEMBER_ALREADY_EXISTS);
-                });
-        User user = fetchCurrentUser(principal);
-        membershipRepository.save(new GroupMembership(group, user, GroupRole.MEMBER));
+        if (!membershipRepository.insertIfAbsent(invitation.groupId(), userId, GroupRole.MEMBER)) {
+            throw new BusinessException(ErrorCode.GROUP_MEMBER_ALREADY_EXISTS);
+        }
+        // buffered instead of updated in place: a popular code would otherwise serialize every join on the group row
+        memberCountBuffer.add(invitation.groupId(), 1);
+        membershipCache.evictAfterCommit(userId);
+        Group group = fetchGroup(invitation.groupId());
+        group.memberCountChanged(1);
         return toDetailDto(group, GroupRole.MEMBER);
     }
 
@@ -152,49 +285,130 @@ public class GroupService {
         PageRequest pageable = PageRequest.of(safePage, safeSize);
         Page<GroupMembership> membershipPage =
                 membershipRepository.searchMemberships(userId, status, normalizedKeyword, pageable);
-        Page<GroupSummaryDto> dtoPage = membershipPage.map(member -> {
-            long memberCount = membershipRepository.countByGroupId(member.getGroup().getId());
-            return GroupSummaryDto.of(member.getGroup(), member.getRole(), memberCount);
-        });
+        Page<GroupSummaryDto> dtoPage = membershipPage.map(this::toSummaryDto);
         return PageResponse.from(dtoPage);
     }
 
     public String regenerateInvitation(Long groupId, UserPrincipal principal) {
-        GroupMembership membership = requireMembership(groupId, requirePrincipal(principal));
-        if (membership.getRole() != GroupRole.OWNER) {
+        if (requireMembership(groupId, requirePrincipal(principal)) != GroupRole.OWNER) {
             throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
         }
-        Group group = membership.getGroup();
-        assignUniqueInvitationCode(group);
+        Group group = fetchGroup(groupId);
+        invitationCodes.evictAfterCompletion(group.getInvitationCode());
+        group.assignInvitationCode(invitationCodeGenerator.next());
         return group.getInvitationCode();
     }
 
+    private GroupSummaryDto toSummaryDto(GroupMembership membership) {
+        Group group = membership.getGroup();
+        return GroupSummaryDto.of(group, membership.getRole(), group.getMemberCount());
+    }
+
     private GroupDetailDto toDetailDto(Group group, GroupRole myRole) {
-        long memberCount = membershipRepository.countByGroupId(group.getId());
-        List<GroupMemberDto> members = membershipRepository.findAllByGroupId(group.getId()).stream()
-                .sorted(MEMBER_COMPARATOR)
-                .map(GroupMemberDto::from)
-                .toList();
-        return GroupDetailDto.of(group, myRole, memberCount, members);
+        return GroupDetailDto.of(
+                group, myRole, group.getMemberCount(), memberPage(group.getId(), null, DETAIL_MEMBER_PAGE_SIZE));
+    }
+
+    /**
+     * Pages members in (role, joinedAt, id) order by walking the roles in rank order and seeking within
+     * each one on the (group_id, role, joined_at, id) index, fetching one extra row to detect a next page.
+     */
+    private CursorPageResponse<GroupMemberDto> memberPage(Long groupId, MemberPosition after, int size) {
+        List<GroupMembership> rows = new ArrayList<>(size + 1);
+        GroupRole[] roles = GroupRole.values();
+        for (int i = after == null ? 0 : after.role().ordinal(); i < roles.length && rows.size() <= size; i++) {
+            PageRequest limit = PageRequest.of(0, size + 1 - rows.size());
+            rows.addAll(after != null && roles[i] == after.role()
+                    ? membershipRepository.findMembersAfter(groupId, roles[i], after.joinedAt(), after.id(), limit)
+                    : membershipRepository.findByGroupIdAndRoleOrderByJoinedAtAscIdAsc(groupId, roles[i], limit));
+        }
+        boolean hasNext = rows.size() > size;
+        List<GroupMembership> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? MemberPosition.of(page.get(size - 1)).encode() : null;
+        return CursorPageResponse.of(page.stream().map(GroupMemberDto::from).toList(), size, nextCursor);
+    }
+
+    /**
+     * Recomputes member_count from group_memberships in id-range chunks, each in its own short
+     * transaction, and rewrites only the groups whose stored count has drifted. Deltas still waiting
+     * in {@link GroupMemberCountBuffer} are subtracted, since the fold will add them later. Runs on one
+     * node per interval.
+     */
+    @Scheduled(initialDelay = 300_000, fixedDelayString = "${app.groups.member-count-reconcile-interval-ms:3600000}")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void reconcileMemberCounts() {
+        clusterJobLock.runExclusively("group-member-counts", reconcileLease, this::recountMembers);
+    }
+
+    private void recountMembers() {
+        Long maxId = groupRepository.findMaxId();
+        if (maxId == null) {
+            return;
+        }
+        int fixed = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileBatchSize) {
+            fixed += groupRepository.reconcileMemberCounts(fromId, fromId + reconcileBatchSize - 1);
+        }
+        if (fixed > 0) {
+            log.warn("Corrected member_count drift on {} groups", fixed);
+        }
+    }
+
+    private GroupRole parseImportRole(String role) {
+        if (!StringUtils.hasText(role)) {
+            return GroupRole.MEMBER;
+        }
+        try {
+            return GroupRole.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private MemberImportReport.Row withStatus(MemberImportReport.Row row, MemberImportReport.Status status) {
+        return new MemberImportReport.Row(row.row(), row.email(), row.role(), status);
     }
 
-    private GroupMembership requireMembership(Long groupId, Long userId) {
-        return membershipRepository.findByGroupIdAndUserId(groupId, userId)
+    private void changeMemberCount(Group group, int delta) {
+        groupRepository.adjustMemberCount(group.getId(), delta);
+        group.memberCountChanged(delta);
+    }
+
+    private GroupRole requireMembership(Long groupId, Long userId) {
+        return membershipCache.roleOf(userId, groupId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_ACCESS_DENIED));
     }
 
-    private void ensureManagerPrivileges(GroupMembership membership) {
-        if (membership.getRole() == GroupRole.MEMBER) {
+    private Group fetchGroup(Long groupId) {
+        return groupRepository.findById(groupId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.GROUP_NOT_FOUND));
+    }
+
+    private void ensureManagerPrivileges(GroupRole role) {
+        if (role == GroupRole.MEMBER) {
             throw new BusinessException(ErrorCode.FORBIDDEN_OPERATION);
         }
     }
 
-    private void assignUniqueInvitationCode(Group group) {
-        String code;
-        do {
-            group.regenerateInvitationCode();
-            code = group.getInvitationCode();
-        } while (groupRepository.existsByInvitationCode(code));
+    private record MemberPosition(GroupRole role, LocalDateTime joinedAt, Long id) {
+
+        static MemberPosition of(GroupMembership membership) {
+            return new MemberPosition(membership.getRole(), membership.getJoinedAt(), membership.getId());
+        }
+
+        static MemberPosition decode(String cursor) {
+            String[] fields = CursorCodec.decode(cursor, 3);
+            try {
+                return new MemberPosition(
+                        GroupRole.valueOf(fields[0]), LocalDateTime.parse(fields[1]), Long.parseLong(fields[2]));
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                throw new BusinessException(ErrorCode.INVALID_CURSOR);
+            }
+        }
+
+        String encode() {
+            return CursorCodec.encode(role, joinedAt, id);
+        }
     }
 
     private Long requirePrincipal(UserPrincipal principal) {
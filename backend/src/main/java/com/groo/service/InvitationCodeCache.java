@@ -0,0 +1,62 @@
+package com.groo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.groo.domain.group.GroupRepository;
+import com.groo.domain.group.GroupStatus;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Caches which group an invitation code points to, so a burst of joins on a freshly shared code
+ * resolves it once instead of once per request; concurrent misses on the same code wait for a single
+ * lookup. Unknown codes are not cached. Codes changed on another node stay valid here for at most the
+ * TTL.
+ */
+@Component
+public class InvitationCodeCache {
+
+    private final GroupRepository groupRepository;
+    private final Cache<String, Invitation> invitations;
+
+    public InvitationCodeCache(
+            GroupRepository groupRepository,
+            @Value("${app.groups.invitation-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${app.groups.invitation-cache.max-size:10000}") long maxSize) {
+        this.groupRepository = groupRepository;
+        this.invitations = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Optional<Invitation> resolve(String code) {
+        return Optional.ofNullable(invitations.get(code, key -> groupRepository.findByInvitationCode(key)
+                .map(group -> new Invitation(group.getId(), group.getStatus()))
+                .orElse(null)));
+    }
+
+    /**
+     * Forgets {@code code} once the surrounding transaction completes, so a lookup racing the change
+     * cannot re-cache the old mapping.
+     */
+    public void evictAfterCompletion(String code) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invitations.invalidate(code);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                invitations.invalidate(code);
+            }
+        });
+    }
+
+    public record Invitation(Long groupId, GroupStatus status) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.groo.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Produces invitation codes that are unique by construction, so assigning one never probes the
+ * database. Each code starts with a 64-bit block of (milliseconds, per-node sequence, node id) run
+ * through a keyed Feistel permutation: distinct blocks map to distinct prefixes and consecutive codes
+ * do not look sequential. Random characters are appended so a code cannot be guessed from the block
+ * alone. All nodes must share the key and use distinct node ids: either configured explicitly, or
+ * leased at startup from a Redis counter, in which case startup fails when Redis cannot be reached.
+ */
+@Component
+public class InvitationCodeGenerator {
+
+    static final int CODE_LENGTH = 20;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 14;
+    private static final int BLOCK_CHARS = 13;
+    private static final int ROUNDS = 4;
+    private static final String NODE_SEQUENCE_KEY = "invitation-code:node-seq";
+    private static final Logger log = LoggerFactory.getLogger(InvitationCodeGenerator.class);
+
+    private final long nodeId;
+    private final int[] roundKeys;
+    private final LongSupplier clock;
+    private final AtomicLong lastTimeAndSequence = new AtomicLong();
+    private final ThreadLocal<SecureRandom> random = ThreadLocal.withInitial(SecureRandom::new);
+
+    @Autowired
+    public InvitationCodeGenerator(
+            @Value("${app.groups.invitation-code.node-id:#{null}}") Integer nodeId,
+            @Value("${app.groups.invitation-code.key:groo-invitation-codes}") String key,
+            StringRedisTemplate redisTemplate) {
+        this(nodeId != null ? nodeId : leaseNodeId(redisTemplate), key, System::currentTimeMillis);
+    }
+
+    InvitationCodeGenerator(int nodeId, String key, LongSupplier clock) {
+        if (nodeId < 0 || nodeId >= 1 << NODE_BITS) {
+            throw new IllegalArgumentException("Invitation code node id must be between 0 and " + ((1 << NODE_BITS) - 1));
+        }
+        this.nodeId = nodeId;
+        this.roundKeys = deriveRoundKeys(key);
+        this.clock = clock;
+    }
+
+    /**
+     * Takes the next value of a cluster-wide counter as this node's id. Ids repeat only after 1024
+     * starts, so two live nodes share one only if one of them has outlived 1023 restarts of the others.
+     */
+    static int leaseNodeId(StringRedisTemplate redisTemplate) {
+        Long sequence;
+        try {
+            sequence = redisTemplate.opsForValue().increment(NODE_SEQUENCE_KEY);
+        } catch (DataAccessException ex) {
+            throw new IllegalStateException(
+                    "Cannot lease an invitation code node id from Redis; set app.groups.invitation-code.node-id", ex);
+        }
+        if (sequence == null) {
+            throw new IllegalStateException(
+                    "Cannot lease an invitation code node id from Redis; set app.groups.invitation-code.node-id");
+        }
+        int nodeId = (int) Math.floorMod(sequence, 1L << NODE_BITS);
+        log.info("Leased invitation code node id {}", nodeId);
+        return nodeId;
+    }
+
+    public String next() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        // a logical clock: never repeats a value, even when the wall clock stalls or steps backwards
+        long timeAndSequence = lastTimeAndSequence.updateAndGet(
+                previous -> Math.max(previous + 1, now << SEQUENCE_BITS));
+        long block = permute((timeAndSequence << NODE_BITS) | nodeId);
+
+        char[] code = new char[CODE_LENGTH];
+        for (int i = 0; i < BLOCK_CHARS; i++) {
+            code[i] = ALPHABET[(int) (block >>> (5 * (BLOCK_CHARS - 1 - i))) & 31];
+        }
+        SecureRandom secureRandom = random.get();
+        for (int i = BLOCK_CHARS; i < CODE_LENGTH; i++) {
+            code[i] = ALPHABET[secureRandom.nextInt(ALPHABET.length)];
+        }
+        return new String(code);
+    }
+
+    /**
+     * Canonical form of a user-typed code: upper case, with the letters Crockford base32 leaves out
+     * read as the digits they resemble. Codes issued before this generator only contain hex digits and
+     * are unaffected.
+     */
+    public static String normalize(String code) {
+        return code.trim()
+                .toUpperCase(Locale.ROOT)
+                .replace('O', '0')
+                .replace('I', '1')
+                .replace('L', '1');
+    }
+
+    private long permute(long value) {
+        int left = (int) (value >>> 32);
+        int right = (int) value;
+        for (int roundKey : roundKeys) {
+            int next = left ^ mix(right ^ roundKey);
+            left = right;
+            right = next;
+        }
+        return ((long) left << 32) | (right & 0xFFFFFFFFL);
+    }
+
+    private static int mix(int value) {
+        value ^= value >>> 16;
+        value *= 0x85EBCA6B;
+        value ^= value >>> 13;
+        value *= 0xC2B2AE35;
+        return value ^ (value >>> 16);
+    }
+
+    private static int[] deriveRoundKeys(String key) {
+        try {
+            ByteBuffer digest = ByteBuffer.wrap(
+                    MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)));
+            int[] keys = new int[ROUNDS];
+            for (int i = 0; i < ROUNDS; i++) {
+                keys[i] = digest.getInt();
+            }
+            return keys;
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
+    }
+}
@@ -1,20 +1,25 @@
 package com.groo.service;
 
+import com.groo.common.CursorCodec;
 import com.groo.common.exception.BusinessException;
 import com.groo.common.exception.ErrorCode;
 import com.groo.domain.group.Group;
-import com.groo.domain.group.GroupMembershipRepository;
 import com.groo.domain.group.GroupRepository;
 import com.groo.domain.project.Project;
 import com.groo.domain.project.ProjectRepository;
 import com.groo.domain.user.User;
 import com.groo.domain.user.UserRepository;
 import com.groo.dto.CreateProjectRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.PageResponse;
 import com.groo.dto.ProjectResponse;
+import com.groo.dto.TaskStatsResponse;
 import com.groo.security.UserPrincipal;
 import jakarta.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -27,26 +32,59 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
     private final GroupRepository groupRepository;
-    private final GroupMembershipRepository membershipRepository;
+    private final GroupMembershipCache membershipCache;
     private final UserRepository userRepository;
+    private final ProjectTaskStatsService taskStats;
 
     public ProjectService(
             ProjectRepository projectRepository,
             GroupRepository groupRepository,
-            GroupMembershipRepository membershipRepository,
-            UserRepository userRepository) {
+            GroupMembershipCache membershipCache,
+            UserRepository userRepository,
+            ProjectTaskStatsService taskStats) {
         this.projectRepository = projectRepository;
         this.groupRepository = groupRepository;
-        this.membershipRepository = membershipRepository;
+        this.membershipCache = membershipCache;
         this.userRepository = userRepository;
+        this.taskStats = taskStats;
     }
 
     public List<ProjectResponse> listByGroup(Long groupId, UserPrincipal principal) {
         Long userId = requirePrincipal(principal);
         requireMembership(groupId, userId);
-        return projectRepository.findByGroupIdOrderByCreatedAtDesc(groupId).stream()
-                .map(ProjectResponse::from)
-                .toList();
+        return toResponses(projectRepository.findByGroupIdOrderByCreatedAtDesc(groupId));
+    }
+
+    /**
+     * Newest-first keyset page over (created_at, id); the cursor is the position of the last project
+     * returned, so later pages cost the same as the first and no count query runs.
+     */
+    public CursorPageResponse<ProjectResponse> listPage(
+            Long groupId,
+            com.groo.domain.project.ProjectStatus status,
+            String cursor,
+            int size,
+            UserPrincipal principal) {
+        Long userId = requirePrincipal(principal);
+        requireMembership(groupId, userId);
+        int pageSize = resolveSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<Project> rows;
+        if (StringUtils.hasText(cursor)) {
+            String[] position = CursorCodec.decode(cursor, 2);
+            rows = projectRepository.findPageAfter(
+                    groupId, status, parseCursorTime(position[0]), parseCursorId(position[1]), limit);
+        } else {
+            rows = projectRepository.findFirstPage(groupId, status, limit);
+        }
+        boolean hasNext = rows.size() > pageSize;
+        List<Project> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = page.get(pageSize - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return CursorPageResponse.of(toResponses(page), pageSize, nextCursor);
     }
 
     public PageResponse<ProjectResponse> searchProjects(
@@ -62,7 +100,10 @@ public class ProjectService {
         String normalizedKeyword = normalizeKeyword(keyword);
         PageRequest pageable = PageRequest.of(Math.max(page, 0), resolveSize(size), resolveSort(sort));
         Page<Project> projectPage = projectRepository.searchProjects(groupId, status, normalizedKeyword, pageable);
-        return PageResponse.from(projectPage.map(ProjectResponse::from));
+        Map<Long, TaskStatsResponse> stats = taskStats.statsOf(
+                projectPage.getContent().stream().map(Project::getId).toList());
+        return PageResponse.from(projectPage.map(
+                project -> ProjectResponse.from(project, stats.getOrDefault(project.getId(), TaskStatsResponse.empty()))));
     }
 
     public ProjectResponse create(CreateProjectRequest request, UserPrincipal principal) {
@@ -78,7 +119,15 @@ public class ProjectService {
         }
         String description = StringUtils.hasText(request.description()) ? request.description().trim() : null;
         Project project = new Project(group, trimmedName, description, user);
-        return ProjectResponse.from(projectRepository.save(project));
+        return ProjectResponse.from(projectRepository.save(project), TaskStatsResponse.empty());
+    }
+
+    private List<ProjectResponse> toResponses(List<Project> projects) {
+        Map<Long, TaskStatsResponse> stats = taskStats.statsOf(projects.stream().map(Project::getId).toList());
+        return projects.stream()
+                .map(project -> ProjectResponse.from(
+                        project, stats.getOrDefault(project.getId(), TaskStatsResponse.empty())))
+                .toList();
     }
 
     private Long requirePrincipal(UserPrincipal principal) {
@@ -89,10 +138,26 @@ public class ProjectService {
     }
 
     private void requireMembership(Long groupId, Long userId) {
-        membershipRepository.findByGroupIdAndUserId(groupId, userId)
+        membershipCache.roleOf(userId, groupId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_ACCESS_DENIED));
     }
 
+    private LocalDateTime parseCursorTime(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    private Long parseCursorId(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private String normalizeKeyword(String keyword) {
         return StringUtils.hasText(keyword) ? keyword.trim() : null;
     }
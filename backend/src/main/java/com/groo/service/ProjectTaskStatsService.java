@@ -0,0 +1,163 @@
+package com.groo.service;
+
+import com.groo.domain.project.ProjectTaskStats;
+import com.groo.domain.project.ProjectTaskStatsRepository;
+import com.groo.domain.task.Task;
+import com.groo.domain.task.TaskPriority;
+import com.groo.domain.task.TaskStatus;
+import com.groo.dto.TaskStatsResponse;
+import jakarta.transaction.Transactional;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps the project_task_stats read model in step with task writes. Every create or update applies
+ * the difference between the task's old and new status and priority counters as one relative
+ * UPDATE, so readers never count tasks. The overdue counter is recounted instead, because tasks turn
+ * overdue without being written: on writes that touch an overdue task, and by a frequent refresh of
+ * the projects whose tasks passed their due date since the previous one. A rarer full recount
+ * repairs any drift.
+ */
+@Service
+@Transactional
+public class ProjectTaskStatsService {
+
+    private final ProjectTaskStatsRepository statsRepository;
+    private final ClusterJobLock clusterJobLock;
+    private final int reconcileBatchSize;
+    private final Duration reconcileLease;
+    private final Duration overdueRefreshLease;
+    private final Duration overdueRefreshFallbackWindow;
+    /** Start of the window the next overdue refresh on this node covers; null until it first runs. */
+    private volatile Instant overdueRefreshedAt;
+
+    public ProjectTaskStatsService(
+            ProjectTaskStatsRepository statsRepository,
+            ClusterJobLock clusterJobLock,
+            @Value("${app.projects.task-stats-reconcile-batch-size:1000}") int reconcileBatchSize,
+            @Value("${app.projects.task-stats-reconcile-interval-ms:3600000}") long reconcileIntervalMs,
+            @Value("${app.projects.task-stats-overdue-refresh-interval-ms:60000}") long overdueRefreshIntervalMs) {
+        this.statsRepository = statsRepository;
+        this.clusterJobLock = clusterJobLock;
+        this.reconcileBatchSize = Math.max(1, reconcileBatchSize);
+        this.reconcileLease = Duration.ofMillis(reconcileIntervalMs * 9 / 10);
+        this.overdueRefreshLease = Duration.ofMillis(overdueRefreshIntervalMs * 9 / 10);
+        // a node that has not refreshed yet covers everything since the last full recount could have run
+        this.overdueRefreshFallbackWindow = Duration.ofMillis(reconcileIntervalMs);
+    }
+
+    /**
+     * Applies a task transition to its project's counters; {@code before} is null for new tasks. Must
+     * run in the transaction that writes the task.
+     */
+    public void record(Long projectId, Snapshot before, Snapshot after) {
+        if (after.equals(before)) {
+            return;
+        }
+        int[] delta = new int[6];
+        if (before != null) {
+            before.addTo(delta, -1);
+        }
+        after.addTo(delta, 1);
+        Instant now = Instant.now();
+        if (Arrays.stream(delta).anyMatch(count -> count != 0) && applyDelta(projectId, delta) == 0) {
+            // first write since the project was created: build the row from the tasks, which already
+            // include this change; if another transaction won that race, apply the delta on top of its row
+            if (statsRepository.insertFromTasks(projectId, now) > 0) {
+                return;
+            }
+            applyDelta(projectId, delta);
+        }
+        if (after.overdue() || (before != null && before.overdue())) {
+            statsRepository.recountOverdue(projectId, now);
+        }
+    }
+
+    public TaskStatsResponse statsOf(Long projectId) {
+        return statsRepository.findById(projectId)
+                .map(TaskStatsResponse::from)
+                .orElseGet(TaskStatsResponse::empty);
+    }
+
+    public Map<Long, TaskStatsResponse> statsOf(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        return statsRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(ProjectTaskStats::getProjectId, TaskStatsResponse::from));
+    }
+
+    /**
+     * Moves tasks into the overdue count as their due dates pass, recounting only the projects that
+     * have a task due since the previous refresh. Runs on one node per interval.
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${app.projects.task-stats-overdue-refresh-interval-ms:60000}")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void refreshOverdue() {
+        clusterJobLock.runExclusively("project-task-overdue", overdueRefreshLease, () -> {
+            Instant now = Instant.now();
+            Instant since = overdueRefreshedAt != null ? overdueRefreshedAt : now.minus(overdueRefreshFallbackWindow);
+            statsRepository.recountOverdueDueBetween(since, now);
+            overdueRefreshedAt = now;
+        });
+    }
+
+    /**
+     * Recounts every project's counters from tasks in id-range chunks, each in its own short
+     * transaction, repairing any drift. Runs on one node per interval.
+     */
+    @Scheduled(initialDelay = 300_000, fixedDelayString = "${app.projects.task-stats-reconcile-interval-ms:3600000}")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void reconcile() {
+        clusterJobLock.runExclusively("project-task-stats", reconcileLease, this::recountAll);
+    }
+
+    private void recountAll() {
+        Long maxId = statsRepository.findMaxProjectId();
+        if (maxId == null) {
+            return;
+        }
+        Instant now = Instant.now();
+        for (long fromId = 1; fromId <= maxId; fromId += reconcileBatchSize) {
+            long toId = fromId + reconcileBatchSize - 1;
+            statsRepository.insertMissing(fromId, toId);
+            statsRepository.recount(fromId, toId, now);
+        }
+    }
+
+    private int applyDelta(Long projectId, int[] delta) {
+        return statsRepository.applyDelta(projectId, delta[0], delta[1], delta[2], delta[3], delta[4], delta[5]);
+    }
+
+    /** The counters a single task contributes to. */
+    public record Snapshot(TaskStatus status, TaskPriority priority, boolean overdue) {
+
+        public static Snapshot of(Task task) {
+            boolean overdue = task.getDueDate() != null
+                    && task.getStatus() != TaskStatus.DONE
+                    && task.getDueDate().isBefore(Instant.now());
+            return new Snapshot(task.getStatus(), task.getPriority(), overdue);
+        }
+
+        private void addTo(int[] delta, int sign) {
+            // same order as the applyDelta parameters
+            delta[switch (status) {
+                case TODO -> 0;
+                case DOING -> 1;
+                case DONE -> 2;
+            }] += sign;
+            delta[switch (priority) {
+                case LOW -> 3;
+                case MEDIUM -> 4;
+                case HIGH -> 5;
+            }] += sign;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.groo.service;
+
+import com.groo.common.TokenDigests;
+import com.groo.common.exception.BusinessException;
+import com.groo.common.exception.ErrorCode;
+import com.groo.config.JwtProperties;
+import com.groo.domain.auth.RefreshToken;
+import com.groo.domain.auth.RefreshTokenRepository;
+import com.groo.domain.user.User;
+import com.groo.security.JwtTokenProvider;
+import jakarta.transaction.Transactional;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Issues, rotates and revokes refresh tokens. Tokens are random opaque strings; only their SHA-256
+ * digest is stored.
+ */
+@Service
+@Transactional
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtProperties properties;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtTokenProvider jwtTokenProvider,
+            JwtProperties properties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.properties = properties;
+    }
+
+    public String issue(User user) {
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String token = TOKEN_ENCODER.encodeToString(bytes);
+        refreshTokenRepository.save(new RefreshToken(
+                user, TokenDigests.sha256Hex(token), jwtTokenProvider.getRefreshTokenExpiryInstant()));
+        return token;
+    }
+
+    /**
+     * Consumes {@code token} and issues its replacement in one transaction. The conditional revoke
+     * lets exactly one concurrent caller win the token; the others fail as if it were already used.
+     */
+    public Rotation rotate(String token) {
+        String tokenHash = TokenDigests.sha256Hex(token);
+        if (refreshTokenRepository.consume(tokenHash, Instant.now()) == 0) {
+            RefreshToken existing = refreshTokenRepository.findByTokenHash(tokenHash)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+            throw new BusinessException(existing.isRevoked()
+                    ? ErrorCode.REFRESH_TOKEN_NOT_FOUND
+                    : ErrorCode.TOKEN_EXPIRED);
+        }
+        User user = refreshTokenRepository.findWithUserByTokenHash(tokenHash)
+                .map(RefreshToken::getUser)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        return new Rotation(user, issue(user));
+    }
+
+    public void revoke(String token) {
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex(token))
+                .orElseThrow(() -> new BusinessException(ErrorCode.REFRESH_TOKEN_NOT_FOUND));
+        refreshToken.revoke();
+    }
+
+    /**
+     * Deletes expired and revoked rows in small id-based chunks, each in its own short transaction, so
+     * the purge never holds long locks on the table the login path writes to.
+     */
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${app.security.jwt.refresh-token-purge-interval-ms:600000}")
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void purgeExpiredAndRevoked() {
+        Instant now = Instant.now();
+        int expired = purge(page -> refreshTokenRepository.findExpiredIds(now, page));
+        int revoked = purge(refreshTokenRepository::findRevokedIds);
+        if (expired + revoked > 0) {
+            log.info("Purged {} expired and {} revoked refresh tokens", expired, revoked);
+        }
+    }
+
+    private int purge(Function<Pageable, List<Long>> nextChunk) {
+        int batchSize = Math.max(1, properties.getRefreshTokenPurgeBatchSize());
+        Pageable firstPage = PageRequest.of(0, batchSize);
+        int deleted = 0;
+        for (int batch = 0; batch < properties.getRefreshTokenPurgeMaxBatches(); batch++) {
+            List<Long> ids = nextChunk.apply(firstPage);
+            if (ids.isEmpty()) {
+                break;
+            }
+            refreshTokenRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            if (ids.size() < batchSize) {
+                break;
+            }
+        }
+        return deleted;
+    }
+
+    public record Rotation(User user, String refreshToken) {
+    }
+}
@@ -1,22 +1,27 @@
 package com.groo.service;
 
+import com.groo.common.CursorCodec;
 import com.groo.common.exception.BusinessException;
 import com.groo.common.exception.ErrorCode;
-import com.groo.domain.group.GroupMembershipRepository;
 import com.groo.domain.project.Project;
 import com.groo.domain.project.ProjectRepository;
 import com.groo.domain.task.Task;
+import com.groo.domain.task.TaskAccess;
 import com.groo.domain.task.TaskActivity;
 import com.groo.domain.task.TaskActivityRepository;
 import com.groo.domain.task.TaskComment;
 import com.groo.domain.task.TaskCommentRepository;
 import com.groo.domain.task.TaskRepository;
+import com.groo.domain.task.TaskSeekRepository.Filter;
+import com.groo.domain.task.TaskSeekRepository.Position;
+import com.groo.domain.task.TaskSeekRepository.SortKey;
 import com.groo.domain.task.TaskSubtask;
 import com.groo.domain.task.TaskSubtaskRepository;
 import com.groo.domain.user.User;
 import com.groo.domain.user.UserRepository;
 import com.groo.dto.AddSubtaskRequest;
 import com.groo.dto.CreateTaskRequest;
+import com.groo.dto.CursorPageResponse;
 import com.groo.dto.PageResponse;
 import com.groo.dto.SubtaskResponse;
 import com.groo.dto.TaskActivityResponse;
@@ -25,9 +30,13 @@ import com.groo.dto.TaskCommentResponse;
 import com.groo.dto.TaskResponse;
 import com.groo.dto.UpdateTaskRequest;
 import com.groo.security.UserPrincipal;
+import com.groo.service.ProjectTaskStatsService.Snapshot;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.data.domain.Page;
@@ -43,8 +52,9 @@ public class TaskService {
     private final TaskSubtaskRepository subtaskRepository;
     private final TaskCommentRepository commentRepository;
     private final TaskActivityRepository activityRepository;
-    private final GroupMembershipRepository membershipRepository;
+    private final GroupMembershipCache membershipCache;
     private final UserRepository userRepository;
+    private final ProjectTaskStatsService taskStats;
 
     public TaskService(
             TaskRepository taskRepository,
@@ -52,15 +62,17 @@ public class TaskService {
             TaskSubtaskRepository subtaskRepository,
             TaskCommentRepository commentRepository,
             TaskActivityRepository activityRepository,
-            GroupMembershipRepository membershipRepository,
-            UserRepository userRepository) {
+            GroupMembershipCache membershipCache,
+            UserRepository userRepository,
+            ProjectTaskStatsService taskStats) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.subtaskRepository = subtaskRepository;
         this.commentRepository = commentRepository;
         this.activityRepository = activityRepository;
-        this.membershipRepository = membershipRepository;
+        this.membershipCache = membershipCache;
         this.userRepository = userRepository;
+        this.taskStats = taskStats;
     }
 
     public List<TaskResponse> listByProject(Long projectId, UserPrincipal principal) {
@@ -71,6 +83,18 @@ public class TaskService {
                 .toList();
     }
 
+    /**
+     * Hands the project's tasks to {@code sink} one at a time while they are read from an open cursor,
+     * so neither entities nor a result list are held for the whole project. The read runs in the
+     * repository's own read-only transaction rather than joining a read-write one here.
+     */
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public void streamByProject(Long projectId, UserPrincipal principal, Consumer<TaskResponse> sink) {
+        Long userId = requirePrincipal(principal);
+        Project project = requireProjectAccess(projectId, userId);
+        taskRepository.forEachByProjectId(project.getId(), sink);
+    }
+
     public PageResponse<TaskResponse> searchTasks(
             Long projectId,
             String keyword,
@@ -88,6 +112,48 @@ public class TaskService {
         return PageResponse.from(taskPage.map(TaskResponse::from));
     }
 
+    /**
+     * Cursor mode of {@link #searchTasks}: seeks past the last task of the previous page on the sort
+     * key and id instead of skipping an offset, and runs no count query. A cursor is only valid for the
+     * sort it was issued with.
+     */
+    public CursorPageResponse<TaskResponse> searchTaskPage(
+            Long projectId,
+            String keyword,
+            com.groo.domain.task.TaskStatus status,
+            com.groo.domain.task.TaskPriority priority,
+            String sort,
+            String cursor,
+            int size,
+            UserPrincipal principal) {
+        Long userId = requirePrincipal(principal);
+        requireProjectAccess(projectId, userId);
+        int pageSize = resolveTaskPageSize(size);
+        Sort.Order order = resolveTaskSort(sort).iterator().next();
+        SortKey sortKey = switch (order.getProperty()) {
+            case "priority" -> SortKey.PRIORITY;
+            case "createdAt" -> SortKey.CREATED_AT;
+            case "status" -> SortKey.STATUS;
+            default -> SortKey.DUE_DATE;
+        };
+        boolean ascending = order.isAscending();
+        Position after = StringUtils.hasText(cursor) ? decodePosition(cursor, sortKey, ascending) : null;
+
+        List<Task> rows = taskRepository.seek(
+                new Filter(projectId, status, priority, normalizeKeyword(keyword)),
+                sortKey, ascending, after, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Task> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Task last = page.get(pageSize - 1);
+            Object key = sortKey.keyOf(last);
+            nextCursor = CursorCodec.encode(
+                    sortKey.name(), order.getDirection().name(), key == null ? "" : key, last.getId());
+        }
+        return CursorPageResponse.of(page.stream().map(TaskResponse::from).toList(), pageSize, nextCursor);
+    }
+
     public TaskResponse create(CreateTaskRequest request, UserPrincipal principal) {
         Long userId = requirePrincipal(principal);
         Project project = requireProjectAccess(request.projectId(), userId);
@@ -108,6 +174,7 @@ public class TaskService {
         }
         task.setDueDate(request.dueDate());
         Task saved = taskRepository.save(task);
+        taskStats.record(project.getId(), null, Snapshot.of(saved));
         logActivity(saved, creator, "작업이 생성되었습니다.");
         return TaskResponse.from(saved);
     }
@@ -121,6 +188,7 @@ public class TaskService {
         Long userId = requirePrincipal(principal);
         User actor = fetchUser(userId);
         Task task = requireTaskAccess(taskId, userId);
+        Snapshot before = Snapshot.of(task);
         boolean changed = false;
 
         if (request.status() != null && request.status() != task.getStatus()) {
@@ -157,6 +225,7 @@ public class TaskService {
         if (!changed) {
             throw new BusinessException(ErrorCode.TASK_UPDATE_INVALID);
         }
+        taskStats.record(task.getProject().getId(), before, Snapshot.of(task));
         return TaskResponse.from(task);
     }
 
@@ -220,10 +289,12 @@ public class TaskService {
     }
 
     private Task requireTaskAccess(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
+        TaskAccess access = taskRepository.findWithAccess(taskId, userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.TASK_NOT_FOUND));
-        requireMembership(task.getProject().getGroup().getId(), userId);
-        return task;
+        if (!access.granted()) {
+            throw new BusinessException(ErrorCode.PROJECT_ACCESS_DENIED);
+        }
+        return access.task();
     }
 
     private Project requireProjectAccess(Long projectId, Long userId) {
@@ -234,7 +305,7 @@ public class TaskService {
     }
 
     private void requireMembership(Long groupId, Long userId) {
-        membershipRepository.findByGroupIdAndUserId(groupId, userId)
+        membershipCache.roleOf(userId, groupId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PROJECT_ACCESS_DENIED));
     }
 
@@ -277,6 +348,26 @@ public class TaskService {
         return Sort.by(direction, property);
     }
 
+    private Position decodePosition(String cursor, SortKey sortKey, boolean ascending) {
+        String[] fields = CursorCodec.decode(cursor, 4);
+        Sort.Direction direction = ascending ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (!sortKey.name().equals(fields[0]) || !direction.name().equals(fields[1])) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+        try {
+            String value = fields[2];
+            Object key = switch (sortKey) {
+                case DUE_DATE -> value.isEmpty() ? null : Instant.parse(value);
+                case PRIORITY -> com.groo.domain.task.TaskPriority.valueOf(value);
+                case CREATED_AT -> LocalDateTime.parse(value);
+                case STATUS -> com.groo.domain.task.TaskStatus.valueOf(value);
+            };
+            return new Position(key, Long.parseLong(fields[3]));
+        } catch (DateTimeParseException | IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
     private String normalizeKeyword(String keyword) {
         return StringUtils.hasText(keyword) ? keyword.trim() : null;
     }
@@ -0,0 +1,136 @@
+package com.groo.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter split into a ring of time slices keyed by each entry's expiry. A slice is recycled as
+ * soon as everything in it has expired, so the filter forgets entries together with their TTL and
+ * never needs a global rebuild. Entries expiring beyond the ring horizon go to a small exact map.
+ */
+public final class TimePartitionedBloomFilter {
+
+    private final long sliceMillis;
+    private final int bitsPerSlice;
+    private final int hashCount;
+    private final Slice[] ring;
+    private final Map<String, Long> beyondHorizon = new ConcurrentHashMap<>();
+
+    public TimePartitionedBloomFilter(
+            long horizonMillis, int partitions, long expectedInsertions, double falsePositiveRate) {
+        this.sliceMillis = Math.max(1, (horizonMillis + partitions - 1) / partitions);
+        long perSlice = Math.max(1, expectedInsertions / partitions);
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-perSlice * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitsPerSlice = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, bits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitsPerSlice / perSlice * ln2));
+        // one extra slot for the partially elapsed current slice
+        this.ring = new Slice[partitions + 1];
+        for (int i = 0; i < ring.length; i++) {
+            ring[i] = new Slice((bitsPerSlice + 63) / 64);
+        }
+    }
+
+    public void put(String key, long expiresAtMillis, long nowMillis) {
+        if (expiresAtMillis <= nowMillis) {
+            return;
+        }
+        long slice = expiresAtMillis / sliceMillis;
+        long currentSlice = nowMillis / sliceMillis;
+        if (slice - currentSlice >= ring.length) {
+            beyondHorizon.put(key, expiresAtMillis);
+            return;
+        }
+        Slice target = ring[(int) Math.floorMod(slice, (long) ring.length)];
+        target.claim(slice);
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (int i = 0; i < hashCount; i++) {
+            target.set(Math.floorMod(h1 + i * h2, (long) bitsPerSlice));
+        }
+    }
+
+    public boolean mightContain(String key, long nowMillis) {
+        if (!beyondHorizon.isEmpty()) {
+            Long expiresAt = beyondHorizon.get(key);
+            if (expiresAt != null) {
+                if (expiresAt > nowMillis) {
+                    return true;
+                }
+                beyondHorizon.remove(key, expiresAt);
+            }
+        }
+        long currentSlice = nowMillis / sliceMillis;
+        long h1 = hash(key);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L) | 1L;
+        for (Slice slice : ring) {
+            if (slice.tag < currentSlice) {
+                continue;
+            }
+            boolean all = true;
+            for (int i = 0; i < hashCount && all; i++) {
+                all = slice.get(Math.floorMod(h1 + i * h2, (long) bitsPerSlice));
+            }
+            if (all) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long hash(String key) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static final class Slice {
+        private final AtomicLongArray words;
+        private volatile long tag = Long.MIN_VALUE;
+
+        private Slice(int wordCount) {
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        private void claim(long slice) {
+            if (tag == slice) {
+                return;
+            }
+            synchronized (this) {
+                if (tag < slice) {
+                    for (int i = 0; i < words.length(); i++) {
+                        words.set(i, 0L);
+                    }
+                    tag = slice;
+                }
+            }
+        }
+
+        private void set(long bit) {
+            int index = (int) (bit >>> 6);
+            long mask = 1L << (bit & 63);
+            long current;
+            do {
+                current = words.get(index);
+                if ((current & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(index, current, current | mask));
+        }
+
+        private boolean get(long bit) {
+            return (words.get((int) (bit >>> 6)) & (1L << (bit & 63))) != 0;
+        }
+    }
+}
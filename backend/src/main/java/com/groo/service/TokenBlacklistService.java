@@ -1,49 +1,286 @@
 package com.groo.service;
 
+import com.groo.common.CircuitBreaker;
+import com.groo.common.GuardedExecutor;
+import com.groo.config.BlacklistProperties;
+import com.groo.config.BlacklistProperties.FailureMode;
+import com.groo.config.JwtProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.DataAccessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 @Service
-public class TokenBlacklistService {
+public class TokenBlacklistService implements MessageListener {
 
     private static final String PREFIX = "auth:blacklist:";
+    // token ids scored by expiry, so a resync is one range read instead of a TTL lookup per key
+    private static final String EXPIRY_INDEX = "auth:blacklist-expiries";
+    private static final String INDEX_BACKFILLED = "auth:blacklist-expiries:backfilled";
     private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
     private final StringRedisTemplate redisTemplate;
+    private final BlacklistProperties properties;
+    private final TimePartitionedBloomFilter localFilter;
+    private final boolean filterUsable;
+    private volatile boolean filterSynced = false;
+    private final CircuitBreaker circuitBreaker;
+    private final GuardedExecutor redisCalls;
+    private final Map<String, Long> pendingWrites = new ConcurrentHashMap<>();
+    private final AtomicBoolean replaying = new AtomicBoolean();
 
-    public TokenBlacklistService(StringRedisTemplate redisTemplate) {
+    public TokenBlacklistService(
+            StringRedisTemplate redisTemplate,
+            BlacklistProperties properties,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry,
+            @Value("${app.redis.pubsub.enabled:true}") boolean pubSubEnabled) {
         this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.localFilter = new TimePartitionedBloomFilter(
+                TimeUnit.MINUTES.toMillis(jwtProperties.getAccessTokenExpirationMinutes()),
+                properties.getFilterPartitions(),
+                properties.getFilterExpectedInsertions(),
+                properties.getFilterFalsePositiveRate());
+        // without pub/sub a node would never learn about logouts handled elsewhere
+        this.filterUsable = properties.isLocalFilterEnabled() && pubSubEnabled;
+        this.circuitBreaker = new CircuitBreaker(
+                properties.getBreakerFailureThreshold(),
+                Duration.ofMillis(properties.getBreakerOpenDurationMs()),
+                () -> CompletableFuture.runAsync(this::replayPendingWrites));
+        this.redisCalls = new GuardedExecutor(
+                "blacklist-redis", circuitBreaker, Duration.ofMillis(properties.getRedisCallTimeoutMs()), 8, 256);
+        Gauge.builder("groo.blacklist.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Token blacklist Redis circuit: 0=closed, 1=open, 2=half-open")
+                .register(meterRegistry);
+        Gauge.builder("groo.blacklist.fallback.pending", pendingWrites, Map::size)
+                .description("Blacklist writes held locally until Redis is reachable again")
+                .register(meterRegistry);
     }
 
-    public void blacklist(String token, Duration ttl) {
-        if (!StringUtils.hasText(token) || ttl == null) {
+    public void blacklist(String tokenId, Duration ttl) {
+        if (!StringUtils.hasText(tokenId) || ttl == null) {
             return;
         }
         long seconds = ttl.getSeconds();
         if (seconds <= 0) {
             return;
         }
-        try {
-            redisTemplate.opsForValue().set(PREFIX + token, "1", seconds, TimeUnit.SECONDS);
-        } catch (DataAccessException ex) {
-            log.warn("Failed to blacklist token due to Redis error: {}", ex.getMessage());
+        long expiresAt = System.currentTimeMillis() + ttl.toMillis();
+        localFilter.put(tokenId, expiresAt, System.currentTimeMillis());
+        if (!writeToRedis(tokenId, expiresAt)) {
+            holdPendingWrite(tokenId, expiresAt);
         }
     }
 
-    public boolean isBlacklisted(String token) {
-        if (!StringUtils.hasText(token)) {
+    public boolean isBlacklisted(String tokenId) {
+        if (!StringUtils.hasText(tokenId)) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        Long pendingExpiry = pendingWrites.get(tokenId);
+        if (pendingExpiry != null && pendingExpiry > now) {
+            return true;
+        }
+        if (filterUsable && filterSynced && !localFilter.mightContain(tokenId, now)) {
             return false;
         }
+        return redisCalls.call(() -> Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + tokenId)))
+                .orElse(properties.getFailureMode() == FailureMode.FAIL_CLOSED);
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf('|');
+        if (separator <= 0) {
+            return;
+        }
         try {
-            return Boolean.TRUE.equals(redisTemplate.hasKey(PREFIX + token));
-        } catch (DataAccessException ex) {
-            log.warn("Failed to check token blacklist due to Redis error: {}", ex.getMessage());
+            long expiresAt = Long.parseLong(body.substring(0, separator));
+            localFilter.put(body.substring(separator + 1), expiresAt, System.currentTimeMillis());
+        } catch (NumberFormatException ex) {
+            log.debug("Ignoring malformed blacklist event");
+        }
+    }
+
+    /**
+     * Re-seeds the local filter from the expiry index on startup and periodically afterwards, covering
+     * entries published while this node was disconnected from pub/sub, and retries any held writes.
+     * Each run prunes expired index entries and reads the live ones with a single range query. Every
+     * Redis round trip goes through the guarded executor, so a slow Redis costs the scheduler thread
+     * at most one call timeout per step.
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.security.blacklist.resync-interval-ms:60000}")
+    public void resyncLocalFilter() {
+        replayPendingWrites();
+        if (!filterUsable) {
+            return;
+        }
+        Optional<Boolean> backfilled =
+                redisCalls.call(() -> Boolean.TRUE.equals(redisTemplate.hasKey(INDEX_BACKFILLED)));
+        Optional<Set<TypedTuple<String>>> live = backfilled.isPresent() && (backfilled.get() || backfillExpiryIndex())
+                ? redisCalls.call(this::readLiveEntries)
+                : Optional.empty();
+        if (live.isEmpty()) {
+            // a failed run leaves the filter as current as pub/sub keeps it, so it keeps answering
+            // instead of sending every lookup to the Redis that just failed
+            log.warn("Failed to resync token blacklist filter; keeping the last synced state");
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (TypedTuple<String> entry : live.get()) {
+            if (entry.getValue() != null && entry.getScore() != null) {
+                localFilter.put(entry.getValue(), entry.getScore().longValue(), now);
+            }
+        }
+        filterSynced = true;
+    }
+
+    private Set<TypedTuple<String>> readLiveEntries() {
+        long now = System.currentTimeMillis();
+        ZSetOperations<String, String> index = redisTemplate.opsForZSet();
+        index.removeRangeByScore(EXPIRY_INDEX, Double.NEGATIVE_INFINITY, now);
+        Set<TypedTuple<String>> live = index.rangeByScoreWithScores(EXPIRY_INDEX, now, Double.POSITIVE_INFINITY);
+        return live != null ? live : Set.of();
+    }
+
+    /**
+     * One-off migration for entries written before the expiry index existed: scans the blacklist keys
+     * and indexes them with pipelined TTL reads, one guarded call per scanned page.
+     */
+    private boolean backfillExpiryIndex() {
+        ScanOptions options = ScanOptions.scanOptions().match(PREFIX + "*").count(1000).build();
+        Optional<Cursor<String>> opened = redisCalls.call(() -> redisTemplate.scan(options));
+        if (opened.isEmpty()) {
             return false;
         }
+        try (Cursor<String> keys = opened.get()) {
+            boolean more = true;
+            while (more) {
+                Optional<Boolean> page = redisCalls.call(() -> indexNextPage(keys));
+                if (page.isEmpty()) {
+                    return false;
+                }
+                more = page.get();
+            }
+        }
+        return redisCalls.call(() -> {
+            redisTemplate.opsForValue().set(INDEX_BACKFILLED, "1");
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private boolean indexNextPage(Cursor<String> keys) {
+        List<String> batch = new ArrayList<>();
+        while (batch.size() < 1000 && keys.hasNext()) {
+            batch.add(keys.next());
+        }
+        indexExpiries(batch);
+        return keys.hasNext();
+    }
+
+    private void indexExpiries(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+        long now = System.currentTimeMillis();
+        Set<TypedTuple<String>> entries = new HashSet<>();
+        for (int i = 0; i < keys.size(); i++) {
+            if (ttls.get(i) instanceof Long ttlMillis && ttlMillis > 0) {
+                entries.add(new DefaultTypedTuple<>(keys.get(i).substring(PREFIX.length()), (double) (now + ttlMillis)));
+            }
+        }
+        if (!entries.isEmpty()) {
+            redisTemplate.opsForZSet().add(EXPIRY_INDEX, entries);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        redisCalls.close();
+    }
+
+    private boolean writeToRedis(String tokenId, long expiresAt) {
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return true;
+        }
+        return redisCalls.call(() -> {
+            redisTemplate.opsForValue().set(PREFIX + tokenId, "1", ttlMillis, TimeUnit.MILLISECONDS);
+            ZSetOperations<String, String> index = redisTemplate.opsForZSet();
+            index.add(EXPIRY_INDEX, tokenId, expiresAt);
+            // pruned here as well as on resync, which never runs on nodes without a usable filter
+            index.removeRangeByScore(EXPIRY_INDEX, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            redisTemplate.convertAndSend(properties.getChannel(), expiresAt + "|" + tokenId);
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    private void holdPendingWrite(String tokenId, long expiresAt) {
+        if (pendingWrites.size() >= properties.getFallbackMaxEntries()) {
+            long now = System.currentTimeMillis();
+            pendingWrites.values().removeIf(expiry -> expiry <= now);
+        }
+        if (pendingWrites.size() >= properties.getFallbackMaxEntries()) {
+            log.warn("Blacklist fallback store is full; token {} is only revoked on this node", tokenId);
+            return;
+        }
+        pendingWrites.put(tokenId, expiresAt);
+    }
+
+    private void replayPendingWrites() {
+        if (pendingWrites.isEmpty() || !replaying.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            for (Map.Entry<String, Long> entry : pendingWrites.entrySet()) {
+                if (entry.getValue() <= now) {
+                    pendingWrites.remove(entry.getKey(), entry.getValue());
+                } else if (writeToRedis(entry.getKey(), entry.getValue())) {
+                    pendingWrites.remove(entry.getKey(), entry.getValue());
+                } else {
+                    break;
+                }
+            }
+        } finally {
+            replaying.set(false);
+        }
     }
 }
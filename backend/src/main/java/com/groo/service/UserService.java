@@ -19,6 +19,7 @@ import com.groo.dto.PageResponse;
 import com.groo.dto.UpdateUserRoleRequest;
 import com.groo.dto.UserResponse;
 import com.groo.security.UserPrincipal;
+import com.groo.security.UserStateCache;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -34,16 +35,19 @@ public class UserService {
     private final GroupRepository groupRepository;
     private final ProjectRepository projectRepository;
     private final TaskRepository taskRepository;
+    private final UserStateCache userStateCache;
 
     public UserService(
             UserRepository userRepository,
             GroupRepository groupRepository,
             ProjectRepository projectRepository,
-            TaskRepository taskRepository) {
+            TaskRepository taskRepository,
+            UserStateCache userStateCache) {
         this.userRepository = userRepository;
         this.groupRepository = groupRepository;
         this.projectRepository = projectRepository;
         this.taskRepository = taskRepository;
+        this.userStateCache = userStateCache;
     }
 
     public UserResponse getCurrentUser(UserPrincipal principal) {
@@ -59,6 +63,7 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.setRole(request.role());
+        userStateCache.evict(user.getId());
         return UserResponse.from(user);
     }
 
@@ -66,6 +71,7 @@ public class UserService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         user.deactivate();
+        userStateCache.evict(user.getId());
         return UserResponse.from(user);
     }
 
@@ -5,6 +5,7 @@ import com.groo.common.exception.ErrorCode;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import java.time.Instant;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -13,12 +14,15 @@ public class FirebaseTokenVerifier {
     public FirebaseProfile verify(String idToken) {
         try {
             FirebaseToken token = FirebaseAuth.getInstance().verifyIdToken(idToken);
-            return new FirebaseProfile(token.getUid(), token.getEmail(), token.getName());
+            Instant expiresAt = token.getClaims().get("exp") instanceof Number exp
+                    ? Instant.ofEpochSecond(exp.longValue())
+                    : null;
+            return new FirebaseProfile(token.getUid(), token.getEmail(), token.getName(), expiresAt);
         } catch (IllegalStateException | FirebaseAuthException ex) {
             throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
         }
     }
 
-    public record FirebaseProfile(String uid, String email, String name) {
+    public record FirebaseProfile(String uid, String email, String name, Instant expiresAt) {
     }
 }
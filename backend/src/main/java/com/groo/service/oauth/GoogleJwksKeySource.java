@@ -0,0 +1,79 @@
+package com.groo.service.oauth;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+@Component
+public class GoogleJwksKeySource implements GoogleSigningKeySource {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+
+    private final RestTemplate restTemplate;
+    private final String jwksUri;
+
+    public GoogleJwksKeySource(
+            @Value("${app.oauth2.google.jwks-uri:https://www.googleapis.com/oauth2/v3/certs}") String jwksUri) {
+        this.jwksUri = jwksUri;
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(2_000);
+        requestFactory.setReadTimeout(3_000);
+        this.restTemplate = new RestTemplate(requestFactory);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public SigningKeys fetch() {
+        ResponseEntity<Map> response = restTemplate.getForEntity(jwksUri, Map.class);
+        Map<String, Object> body = response.getBody();
+        if (body == null || !(body.get("keys") instanceof List<?> entries)) {
+            throw new IllegalStateException("Google JWKS response has no keys");
+        }
+        Map<String, PublicKey> keys = new HashMap<>();
+        for (Object entry : entries) {
+            Map<String, Object> jwk = (Map<String, Object>) entry;
+            if ("RSA".equals(jwk.get("kty")) && jwk.get("kid") instanceof String kid) {
+                keys.put(kid, rsaKey((String) jwk.get("n"), (String) jwk.get("e")));
+            }
+        }
+        return new SigningKeys(Map.copyOf(keys), maxAge(response.getHeaders()));
+    }
+
+    private static PublicKey rsaKey(String modulus, String exponent) {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(
+                    new BigInteger(1, decoder.decode(modulus)),
+                    new BigInteger(1, decoder.decode(exponent))));
+        } catch (GeneralSecurityException | IllegalArgumentException | NullPointerException ex) {
+            throw new IllegalStateException("Malformed RSA key in Google JWKS", ex);
+        }
+    }
+
+    private static Duration maxAge(HttpHeaders headers) {
+        String cacheControl = headers.getCacheControl();
+        if (cacheControl != null) {
+            Matcher matcher = MAX_AGE.matcher(cacheControl);
+            if (matcher.find()) {
+                return Duration.ofSeconds(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return DEFAULT_MAX_AGE;
+    }
+}
@@ -0,0 +1,21 @@
+package com.groo.service.oauth;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Supplies the public keys Google signs ID tokens with. The default implementation downloads
+ * Google's JWKS document; tests can register a local source instead.
+ */
+public interface GoogleSigningKeySource {
+
+    SigningKeys fetch();
+
+    /**
+     * @param keys keys by {@code kid}
+     * @param maxAge how long the set may be used before it is fetched again
+     */
+    record SigningKeys(Map<String, PublicKey> keys, Duration maxAge) {
+    }
+}
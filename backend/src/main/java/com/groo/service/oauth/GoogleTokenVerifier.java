@@ -2,48 +2,137 @@ package com.groo.service.oauth;
 
 import com.groo.common.exception.BusinessException;
 import com.groo.common.exception.ErrorCode;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import java.security.Key;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
 
+/**
+ * Verifies Google ID tokens locally: the RS256 signature against Google's cached signing keys, then
+ * issuer, audience and expiry. Keys are refetched when their max-age lapses, and at most every
+ * {@link #UNKNOWN_KID_REFETCH_INTERVAL} when a token names a key we do not have (Google rotated).
+ */
 @Component
 public class GoogleTokenVerifier {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private static final Logger log = LoggerFactory.getLogger(GoogleTokenVerifier.class);
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Duration UNKNOWN_KID_REFETCH_INTERVAL = Duration.ofSeconds(30);
+    /** How long after a successful fetch its keys stay usable while Google cannot be reached. */
+    private static final Duration STALE_KEYS_GRACE = Duration.ofHours(12);
+
+    private final GoogleSigningKeySource keySource;
     private final String clientId;
+    private final JwtParser parser;
+    private final Object refreshLock = new Object();
+    private volatile CachedKeys cached;
 
-    public GoogleTokenVerifier(@Value("${app.oauth2.google.client-id:}") String clientId) {
+    public GoogleTokenVerifier(
+            GoogleSigningKeySource keySource,
+            @Value("${app.oauth2.google.client-id:}") String clientId) {
+        this.keySource = keySource;
         this.clientId = clientId;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return resolveKey(header.getKeyId());
+                    }
+                })
+                .setAllowedClockSkewSeconds(60)
+                .build();
+        if (!StringUtils.hasText(clientId)) {
+            log.warn("app.oauth2.google.client-id is not set; Google ID tokens for any audience will be accepted");
+        }
     }
 
     public GoogleProfile verify(String idToken) {
-        String url = "https://oauth2.googleapis.com/tokeninfo?id_token=" + idToken;
+        Claims claims;
         try {
-            ResponseEntity<Map> response = restTemplate.getForEntity(url, Map.class);
-            Map<String, Object> body = response.getBody();
-            if (body == null || body.containsKey("error")) {
-                throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+            claims = parser.parseClaimsJws(idToken).getBody();
+        } catch (JwtException | IllegalArgumentException ex) {
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+        if (StringUtils.hasText(clientId) && !clientId.equals(claims.getAudience())) {
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+        String email = claims.get("email", String.class);
+        if (!StringUtils.hasText(email) || !isTrue(claims.get("email_verified"))) {
+            throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+        }
+        String name = claims.get("name", String.class);
+        Instant expiresAt = claims.getExpiration() != null ? claims.getExpiration().toInstant() : null;
+        return new GoogleProfile(email, StringUtils.hasText(name) ? name : email, claims.getSubject(), expiresAt);
+    }
+
+    private Key resolveKey(String kid) {
+        if (!StringUtils.hasText(kid)) {
+            throw new SignatureException("Google ID token without kid");
+        }
+        CachedKeys snapshot = cached;
+        Map<String, PublicKey> keys = snapshot != null && Instant.now().isBefore(snapshot.expiresAt())
+                ? snapshot.keys()
+                : refresh(snapshot, false);
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            key = refresh(cached, true).get(kid);
+        }
+        if (key == null) {
+            throw new SignatureException("Unknown Google signing key " + kid);
+        }
+        return key;
+    }
+
+    private Map<String, PublicKey> refresh(CachedKeys expected, boolean unknownKid) {
+        synchronized (refreshLock) {
+            CachedKeys current = cached;
+            Instant now = Instant.now();
+            if (current != null && current != expected) {
+                return current.keys();
             }
-            String audience = (String) body.get("aud");
-            if (StringUtils.hasText(clientId) && !clientId.equals(audience)) {
-                throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+            if (unknownKid && current != null && now.isBefore(current.fetchedAt().plus(UNKNOWN_KID_REFETCH_INTERVAL))) {
+                return current.keys();
             }
-            String email = (String) body.get("email");
-            String name = (String) body.getOrDefault("name", email);
-            String sub = (String) body.get("sub");
-            if (!StringUtils.hasText(email)) {
-                throw new BusinessException(ErrorCode.INVALID_SOCIAL_TOKEN);
+            try {
+                GoogleSigningKeySource.SigningKeys fetched = keySource.fetch();
+                cached = new CachedKeys(fetched.keys(), now, now.plus(fetched.maxAge()));
+                return fetched.keys();
+            } catch (RuntimeException ex) {
+                if (current != null && now.isBefore(current.fetchedAt().plus(STALE_KEYS_GRACE))) {
+                    log.warn("Failed to refresh Google signing keys, keeping the previous set: {}", ex.getMessage());
+                    // retry shortly instead of on every login
+                    cached = new CachedKeys(current.keys(), current.fetchedAt(), now.plus(UNKNOWN_KID_REFETCH_INTERVAL));
+                    return current.keys();
+                }
+                throw new BusinessException(ErrorCode.SOCIAL_LOGIN_FAILURE);
             }
-            return new GoogleProfile(email, name, sub);
-        } catch (RestClientException ex) {
-            throw new BusinessException(ErrorCode.SOCIAL_LOGIN_FAILURE);
         }
     }
 
-    public record GoogleProfile(String email, String name, String id) {
+    private static boolean isTrue(Object value) {
+        return Boolean.TRUE.equals(value) || "true".equals(value);
+    }
+
+    private record CachedKeys(Map<String, PublicKey> keys, Instant fetchedAt, Instant expiresAt) {
+    }
+
+    public record GoogleProfile(String email, String name, String id, Instant expiresAt) {
     }
 }
@@ -0,0 +1,86 @@
+package com.groo.service.oauth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.groo.common.TokenDigests;
+import com.groo.domain.user.SocialProvider;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which user an already verified social ID token resolved to, so a client presenting the
+ * same token again skips signature verification and the user lookup by email. An entry lives until the
+ * token's own {@code exp} or the TTL, whichever comes first, and is checked against {@code exp} again
+ * on every hit. Keyed by provider and the token's SHA-256 digest; raw tokens are never held.
+ */
+@Component
+public class SocialIdentityCache {
+
+    private final Cache<String, Identity> identities;
+    private final LongSupplier clock;
+
+    @Autowired
+    public SocialIdentityCache(
+            @Value("${app.oauth2.identity-cache-ttl-seconds:300}") long ttlSeconds,
+            @Value("${app.oauth2.identity-cache-max-size:10000}") long maxSize) {
+        this(ttlSeconds, maxSize, System::currentTimeMillis);
+    }
+
+    SocialIdentityCache(long ttlSeconds, long maxSize, LongSupplier clock) {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        this.clock = clock;
+        this.identities = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.getAsLong()))
+                .expireAfter(new Expiry<String, Identity>() {
+                    @Override
+                    public long expireAfterCreate(String key, Identity identity, long currentTime) {
+                        long untilExpiry = identity.expiresAtMillis() - clock.getAsLong();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, Math.min(untilExpiry, ttlMillis)));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Identity identity, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, identity, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Identity identity, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Optional<Long> userIdFor(SocialProvider provider, String idToken) {
+        Identity identity = identities.getIfPresent(keyOf(provider, idToken));
+        if (identity == null || identity.expiresAtMillis() <= clock.getAsLong()) {
+            return Optional.empty();
+        }
+        return Optional.of(identity.userId());
+    }
+
+    /**
+     * Caches the user a verified token resolved to. Tokens without an expiry are not cached, since
+     * nothing would bound how long a hit could outlive them.
+     */
+    public void remember(SocialProvider provider, String idToken, Instant expiresAt, Long userId) {
+        if (expiresAt == null || !expiresAt.isAfter(Instant.ofEpochMilli(clock.getAsLong()))) {
+            return;
+        }
+        identities.put(keyOf(provider, idToken), new Identity(userId, expiresAt.toEpochMilli()));
+    }
+
+    private static String keyOf(SocialProvider provider, String idToken) {
+        return provider.name() + ":" + TokenDigests.sha256Hex(idToken);
+    }
+
+    private record Identity(Long userId, long expiresAtMillis) {
+    }
+}
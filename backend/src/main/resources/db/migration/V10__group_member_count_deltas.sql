@@ -0,0 +1,8 @@
+-- member_count changes from joins, appended in the joining transaction and folded into
+-- workspace_groups.member_count by the application; the reconciliation job subtracts rows not folded yet.
+CREATE TABLE IF NOT EXISTS group_member_count_deltas (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    group_id BIGINT NOT NULL,
+    delta INT NOT NULL,
+    INDEX idx_group_member_count_deltas_group (group_id)
+) ENGINE = InnoDB;
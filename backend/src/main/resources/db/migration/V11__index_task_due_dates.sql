@@ -0,0 +1,2 @@
+-- The overdue refresh looks up tasks whose due date passed since its previous run, across projects.
+CREATE INDEX idx_tasks_due_date ON tasks (due_date);
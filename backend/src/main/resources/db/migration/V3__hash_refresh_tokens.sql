@@ -0,0 +1,14 @@
+-- Refresh tokens are looked up by SHA-256 digest instead of the raw value, keeping the unique index
+-- fixed-width and the raw tokens out of the database.
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64) NULL AFTER user_id;
+
+UPDATE refresh_tokens SET token_hash = SHA2(token, 256);
+
+ALTER TABLE refresh_tokens
+    MODIFY token_hash CHAR(64) NOT NULL,
+    ADD CONSTRAINT uk_refresh_tokens_token_hash UNIQUE (token_hash),
+    DROP COLUMN token;
+
+-- Support the chunked purge of expired and revoked rows.
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens (expires_at);
+CREATE INDEX idx_refresh_tokens_revoked ON refresh_tokens (revoked, id);
@@ -0,0 +1,2 @@
+-- Social logins resolve users by (provider, provider_id) before falling back to email.
+CREATE INDEX idx_users_provider_identity ON users (provider, provider_id);
@@ -0,0 +1,6 @@
+-- Denormalized member count, maintained by the application with relative updates and repaired by a
+-- periodic reconciliation job.
+ALTER TABLE workspace_groups ADD COLUMN member_count INT NOT NULL DEFAULT 0;
+
+UPDATE workspace_groups g
+SET member_count = (SELECT COUNT(*) FROM group_memberships m WHERE m.group_id = g.id);
@@ -0,0 +1,2 @@
+-- Member listings page through one role at a time in (joined_at, id) order.
+CREATE INDEX idx_group_memberships_member_page ON group_memberships (group_id, role, joined_at, id);
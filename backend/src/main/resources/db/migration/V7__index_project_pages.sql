@@ -0,0 +1,2 @@
+-- Project listings page newest-first through (created_at, id) within a group.
+CREATE INDEX idx_projects_group_created ON projects (group_id, created_at, id);
@@ -0,0 +1,27 @@
+-- Per-project task counters read alongside projects, maintained by the application with relative
+-- updates and repaired by a periodic reconciliation job, which is also what ages tasks into overdue.
+CREATE TABLE IF NOT EXISTS project_task_stats (
+    project_id BIGINT PRIMARY KEY,
+    todo_count INT NOT NULL DEFAULT 0,
+    doing_count INT NOT NULL DEFAULT 0,
+    done_count INT NOT NULL DEFAULT 0,
+    low_count INT NOT NULL DEFAULT 0,
+    medium_count INT NOT NULL DEFAULT 0,
+    high_count INT NOT NULL DEFAULT 0,
+    overdue_count INT NOT NULL DEFAULT 0,
+    CONSTRAINT fk_project_task_stats_project FOREIGN KEY (project_id) REFERENCES projects (id)
+) ENGINE = InnoDB;
+
+-- overdue_count is left at zero here: due dates are compared in the application's time zone handling,
+-- so the first reconciliation run fills it in.
+INSERT INTO project_task_stats (project_id, todo_count, doing_count, done_count, low_count, medium_count, high_count)
+SELECT p.id,
+       COUNT(CASE WHEN t.status = 'TODO' THEN 1 END),
+       COUNT(CASE WHEN t.status = 'DOING' THEN 1 END),
+       COUNT(CASE WHEN t.status = 'DONE' THEN 1 END),
+       COUNT(CASE WHEN t.priority = 'LOW' THEN 1 END),
+       COUNT(CASE WHEN t.priority = 'MEDIUM' THEN 1 END),
+       COUNT(CASE WHEN t.priority = 'HIGH' THEN 1 END)
+FROM projects p
+LEFT JOIN tasks t ON t.project_id = p.id
+GROUP BY p.id;
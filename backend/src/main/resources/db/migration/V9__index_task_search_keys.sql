@@ -0,0 +1,5 @@
+-- Cursor-mode task search seeks on one sort key plus id within a project.
+CREATE INDEX idx_tasks_project_due ON tasks (project_id, due_date, id);
+CREATE INDEX idx_tasks_project_priority ON tasks (project_id, priority, id);
+CREATE INDEX idx_tasks_project_created ON tasks (project_id, created_at, id);
+CREATE INDEX idx_tasks_project_status ON tasks (project_id, status, id);
@@ -0,0 +1,93 @@
+package com.groo.common;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong(1_000);
+    private final AtomicInteger closes = new AtomicInteger();
+    private final CircuitBreaker breaker =
+            new CircuitBreaker(3, Duration.ofSeconds(10), closes::incrementAndGet, now::get);
+
+    @Test
+    void opensAfterConsecutiveFailuresOnly() {
+        breaker.onFailure();
+        breaker.onFailure();
+        breaker.onSuccess();
+        breaker.onFailure();
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void admitsOneHalfOpenProbeAfterTheOpenDuration() {
+        tripOpen();
+        now.addAndGet(9_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void successfulProbeClosesAndNotifies() {
+        tripOpen();
+        now.addAndGet(10_000);
+        breaker.tryAcquire();
+
+        breaker.onSuccess();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(closes).hasValue(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedProbeReopensForAnotherFullDuration() {
+        tripOpen();
+        now.addAndGet(10_000);
+        breaker.tryAcquire();
+
+        breaker.onFailure();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        now.addAndGet(9_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(closes).hasValue(0);
+    }
+
+    @Test
+    void guardedExecutorSkipsCallsWhileOpen() {
+        AtomicInteger attempts = new AtomicInteger();
+        try (GuardedExecutor executor = new GuardedExecutor("test", breaker, Duration.ofSeconds(1), 1, 4)) {
+            for (int i = 0; i < 5; i++) {
+                assertThat(executor.call(() -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("down");
+                })).isEmpty();
+            }
+            assertThat(attempts).hasValue(3);
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+            now.addAndGet(10_000);
+            assertThat(executor.call(() -> "up")).contains("up");
+            assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        }
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < 3; i++) {
+            breaker.onFailure();
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
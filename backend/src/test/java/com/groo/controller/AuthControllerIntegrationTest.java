@@ -1,11 +1,18 @@
 package com.groo.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.groo.common.TokenDigests;
+import com.groo.domain.auth.RefreshToken;
 import com.groo.domain.user.User;
+import com.groo.service.RefreshTokenService;
 import com.groo.support.IntegrationTestSupport;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -14,6 +21,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class AuthControllerIntegrationTest extends IntegrationTestSupport {
 
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
     @Test
     void registerCreatesUserAndReturnsTokens() throws Exception {
         MvcResult result = mockMvc.perform(post("/api/auth/register")
@@ -61,6 +71,20 @@ class AuthControllerIntegrationTest extends IntegrationTestSupport {
         assertThat(data.path("refreshToken").asText()).isNotBlank();
     }
 
+    @Test
+    void loginUpgradesWeakerPasswordHash() throws Exception {
+        User user = createUser("legacy-hash@example.com", "Password1!");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("Password1!"));
+        userRepository.save(user);
+
+        obtainAccessToken("legacy-hash@example.com", "Password1!");
+
+        String upgraded = userRepository.findByEmail("legacy-hash@example.com").orElseThrow().getPassword();
+        assertThat(upgraded).doesNotStartWith("$2a$04$");
+        assertThat(passwordEncoder.matches("Password1!", upgraded)).isTrue();
+        obtainAccessToken("legacy-hash@example.com", "Password1!");
+    }
+
     @Test
     void loginFailsWhenPasswordMismatch() throws Exception {
         createUser("wrongpass@example.com", "Password1!");
@@ -103,6 +127,43 @@ class AuthControllerIntegrationTest extends IntegrationTestSupport {
         assertThat(data.path("refreshToken").asText()).isNotBlank();
     }
 
+    @Test
+    void refreshRotatesTokenAndRejectsRepeatedPresentation() throws Exception {
+        User user = createUser("rotate@example.com", "Password1!");
+        String original = issueRefreshTokenFor(user);
+
+        String rotated = refreshAndReadToken(original);
+        assertThat(rotated).isNotEqualTo(original);
+        assertThat(refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex(original)))
+                .get().extracting(RefreshToken::isRevoked).isEqualTo(true);
+        assertThat(refreshTokenRepository.findByTokenHash(TokenDigests.sha256Hex(rotated))).isPresent();
+
+        // the rotation has completed, so presenting the consumed token again is refused
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("refreshToken", original))))
+                .andExpect(status().isUnauthorized());
+        assertThat(refreshAndReadToken(rotated)).isNotEqualTo(rotated);
+    }
+
+    @Test
+    void purgeDeletesExpiredAndRevokedTokens() {
+        User user = createUser("purge@example.com", "Password1!");
+        refreshTokenRepository.save(new RefreshToken(
+                user, TokenDigests.sha256Hex("expired"), Instant.now().minus(1, ChronoUnit.DAYS)));
+        RefreshToken revoked = new RefreshToken(
+                user, TokenDigests.sha256Hex("revoked"), Instant.now().plus(1, ChronoUnit.DAYS));
+        revoked.revoke();
+        refreshTokenRepository.save(revoked);
+        String live = issueRefreshTokenFor(user);
+
+        refreshTokenService.purgeExpiredAndRevoked();
+
+        assertThat(refreshTokenRepository.findAll())
+                .extracting(RefreshToken::getTokenHash)
+                .containsExactly(TokenDigests.sha256Hex(live));
+    }
+
     @Test
     void refreshFailsWhenTokenUnknown() throws Exception {
         mockMvc.perform(post("/api/auth/refresh")
@@ -127,4 +188,13 @@ class AuthControllerIntegrationTest extends IntegrationTestSupport {
                         .content(toJson(Map.of("refreshToken", tokens.get("refreshToken")))))
                 .andExpect(status().isUnauthorized());
     }
+
+    private String refreshAndReadToken(String refreshToken) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("refreshToken", refreshToken))))
+                .andExpect(status().isOk())
+                .andReturn();
+        return readJson(result).path("data").path("refreshToken").asText();
+    }
 }
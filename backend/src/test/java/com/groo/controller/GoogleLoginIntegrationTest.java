@@ -0,0 +1,148 @@
+package com.groo.controller;
+
+import com.groo.domain.user.SocialProvider;
+import com.groo.domain.user.User;
+import com.groo.service.oauth.GoogleSigningKeySource;
+import com.groo.service.oauth.GoogleTokenVerifier;
+import com.groo.support.IntegrationTestSupport;
+import io.jsonwebtoken.Jwts;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = "app.oauth2.google.client-id=test-client")
+class GoogleLoginIntegrationTest extends IntegrationTestSupport {
+
+    private static final KeyPair SIGNING_KEYS = generateKeyPair();
+
+    @SpyBean
+    private GoogleTokenVerifier googleTokenVerifier;
+
+    @TestConfiguration
+    static class LocalKeys {
+
+        @Bean
+        @Primary
+        GoogleSigningKeySource localGoogleKeySource() {
+            return () -> new GoogleSigningKeySource.SigningKeys(
+                    Map.of("local-kid", SIGNING_KEYS.getPublic()), Duration.ofHours(1));
+        }
+    }
+
+    @Test
+    void googleLoginAcceptsLocallyVerifiedIdToken() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/auth/google")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("idToken", idToken("local-kid", "test-client")))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(readJson(result).path("data").path("accessToken").asText()).isNotBlank();
+        assertThat(userRepository.findByEmail("google.user@example.com")).isPresent();
+    }
+
+    @Test
+    void repeatedGoogleLoginReusesLinkedAccount() throws Exception {
+        String idToken = idToken("local-kid", "test-client");
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/auth/google")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of("idToken", idToken))))
+                    .andExpect(status().isOk());
+        }
+
+        assertThat(userRepository.count()).isEqualTo(1);
+        User user = userRepository.findByProviderAndProviderId(SocialProvider.GOOGLE, "google-sub-1").orElseThrow();
+        assertThat(user.getPassword()).doesNotStartWith("$2");
+    }
+
+    @Test
+    void cachedIdTokenSkipsVerificationOnRepeatedLogin() throws Exception {
+        String idToken = idToken("local-kid", "test-client");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/auth/google")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(toJson(Map.of("idToken", idToken))))
+                    .andExpect(status().isOk());
+        }
+
+        verify(googleTokenVerifier, times(1)).verify(idToken);
+    }
+
+    @Test
+    void googleLoginRejectsExpiredIdToken() throws Exception {
+        String idToken = idToken("local-kid", "test-client", Instant.now().minus(5, ChronoUnit.MINUTES));
+
+        mockMvc.perform(post("/api/auth/google")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("idToken", idToken))))
+                .andExpect(status().isUnauthorized());
+        assertThat(userRepository.findByEmail("google.user@example.com")).isEmpty();
+    }
+
+    @Test
+    void googleLoginRejectsForeignAudience() throws Exception {
+        mockMvc.perform(post("/api/auth/google")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("idToken", idToken("local-kid", "someone-else")))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void googleLoginRejectsUnknownSigningKey() throws Exception {
+        mockMvc.perform(post("/api/auth/google")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(Map.of("idToken", idToken("rotated-away", "test-client")))))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String idToken(String kid, String audience) {
+        return idToken(kid, audience, Instant.now().plus(1, ChronoUnit.HOURS));
+    }
+
+    private String idToken(String kid, String audience, Instant expiresAt) {
+        return Jwts.builder()
+                .setHeaderParam("kid", kid)
+                .setIssuer("https://accounts.google.com")
+                .setAudience(audience)
+                .setSubject("google-sub-1")
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(new Date())
+                .setExpiration(Date.from(expiresAt))
+                .claim("email", "google.user@example.com")
+                .claim("email_verified", true)
+                .claim("name", "Google User")
+                .signWith(SIGNING_KEYS.getPrivate())
+                .compact();
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
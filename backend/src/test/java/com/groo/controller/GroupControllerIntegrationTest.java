@@ -2,15 +2,26 @@ package com.groo.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.groo.domain.group.Group;
+import com.groo.domain.group.GroupMembershipBulkRepository.NewMembership;
 import com.groo.domain.group.GroupRole;
 import com.groo.domain.user.User;
+import com.groo.service.GroupMemberCountBuffer;
+import com.groo.service.GroupService;
 import com.groo.support.IntegrationTestSupport;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
@@ -18,6 +29,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class GroupControllerIntegrationTest extends IntegrationTestSupport {
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupMemberCountBuffer memberCountBuffer;
+
     @Test
     void createGroupPersistsOwnerMembership() throws Exception {
         createUser("group-owner@example.com", "Password1!");
@@ -95,4 +115,244 @@ class GroupControllerIntegrationTest extends IntegrationTestSupport {
                         .content(toJson(Map.of("invitationCode", "INVALIDCODE"))))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    void removedMemberLosesAccessImmediately() throws Exception {
+        User owner = createUser("remover@example.com", "Password1!");
+        Group group = createGroup(owner, "Shrinking Group");
+        User member = createUser("leaving@example.com", "Password1!");
+        addMember(group, member, GroupRole.MEMBER);
+        String ownerToken = obtainAccessToken("remover@example.com", "Password1!");
+        String memberToken = obtainAccessToken("leaving@example.com", "Password1!");
+
+        mockMvc.perform(get("/api/groups/{id}", group.getId())
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+
+        Long membershipId = groupMembershipRepository.findByGroupIdAndUserId(group.getId(), member.getId())
+                .orElseThrow()
+                .getId();
+        mockMvc.perform(delete("/api/groups/{id}/members/{membershipId}", group.getId(), membershipId)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/groups/{id}", group.getId())
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void groupListingsCountMembersWithOneQuery() throws Exception {
+        User owner = createUser("counting-owner@example.com", "Password1!");
+        User peer = createUser("counting-peer@example.com", "Password1!");
+        String token = obtainAccessToken("counting-owner@example.com", "Password1!");
+        addMember(createGroup(owner, "Counted Group 0"), peer, GroupRole.MEMBER);
+
+        long myGroupsStatements = statementsFor(get("/api/groups").header("Authorization", "Bearer " + token));
+        long searchStatements = statementsFor(get("/api/groups/search").header("Authorization", "Bearer " + token));
+
+        for (int i = 1; i < 5; i++) {
+            addMember(createGroup(owner, "Counted Group " + i), peer, GroupRole.MEMBER);
+        }
+
+        assertThat(statementsFor(get("/api/groups").header("Authorization", "Bearer " + token)))
+                .isEqualTo(myGroupsStatements);
+        assertThat(statementsFor(get("/api/groups/search").header("Authorization", "Bearer " + token)))
+                .isEqualTo(searchStatements);
+
+        MvcResult result = mockMvc.perform(get("/api/groups").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        JsonNode data = readJson(result).path("data");
+        assertThat(data.size()).isEqualTo(5);
+        data.forEach(group -> assertThat(group.path("memberCount").asLong()).isEqualTo(2));
+    }
+
+    @Test
+    void memberCountFollowsJoinsAndIsReconciled() throws Exception {
+        User owner = createUser("count-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Counted Group");
+        createUser("count-joiner@example.com", "Password1!");
+        String ownerToken = obtainAccessToken("count-owner@example.com", "Password1!");
+        String joinerToken = obtainAccessToken("count-joiner@example.com", "Password1!");
+
+        MvcResult joined = mockMvc.perform(post("/api/groups/join")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + joinerToken)
+                        .content(toJson(Map.of("invitationCode", group.getInvitationCode()))))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(readJson(joined).path("data").path("memberCount").asLong()).isEqualTo(2);
+
+        // the join's delta is still waiting to be folded; the reconcile must not count it twice
+        groupRepository.adjustMemberCount(group.getId(), 5);
+        groupService.reconcileMemberCounts();
+        memberCountBuffer.flush();
+
+        MvcResult detail = mockMvc.perform(get("/api/groups/{id}", group.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(readJson(detail).path("data").path("memberCount").asLong()).isEqualTo(2);
+    }
+
+    @Test
+    void memberPagesWalkRolesInRankOrder() throws Exception {
+        User owner = createUser("paging-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Paged Group");
+        for (int i = 0; i < 3; i++) {
+            addMember(group, createUser("paging-member" + i + "@example.com", "Password1!"), GroupRole.MEMBER);
+        }
+        addMember(group, createUser("paging-admin@example.com", "Password1!"), GroupRole.ADMIN);
+        String token = obtainAccessToken("paging-owner@example.com", "Password1!");
+
+        List<String> roles = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        do {
+            var request = get("/api/groups/{id}/members/page", group.getId())
+                    .param("size", "2")
+                    .header("Authorization", "Bearer " + token);
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = readJson(mockMvc.perform(request).andExpect(status().isOk()).andReturn()).path("data");
+            page.path("content").forEach(member -> {
+                roles.add(member.path("role").asText());
+                emails.add(member.path("email").asText());
+            });
+            cursor = page.path("hasNext").asBoolean() ? page.path("nextCursor").asText() : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(roles).containsExactly("OWNER", "ADMIN", "MEMBER", "MEMBER", "MEMBER");
+        assertThat(emails).containsExactly(
+                "paging-owner@example.com",
+                "paging-admin@example.com",
+                "paging-member0@example.com",
+                "paging-member1@example.com",
+                "paging-member2@example.com");
+
+        mockMvc.perform(get("/api/groups/{id}/members/page", group.getId())
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void regeneratedInvitationCodeReplacesTheOldOne() throws Exception {
+        User owner = createUser("code-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Coded Group");
+        createUser("code-joiner@example.com", "Password1!");
+        String ownerToken = obtainAccessToken("code-owner@example.com", "Password1!");
+        String joinerToken = obtainAccessToken("code-joiner@example.com", "Password1!");
+        String oldCode = group.getInvitationCode();
+
+        MvcResult regenerated = mockMvc.perform(post("/api/groups/{id}/invites", group.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        String newCode = readJson(regenerated).path("data").asText();
+        assertThat(newCode).hasSize(20).isNotEqualTo(oldCode).matches("[0-9A-HJKMNP-TV-Z]+");
+
+        mockMvc.perform(post("/api/groups/join")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + joinerToken)
+                        .content(toJson(Map.of("invitationCode", oldCode))))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/groups/join")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + joinerToken)
+                        .content(toJson(Map.of("invitationCode", newCode.toLowerCase()))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void bulkImportReportsEveryRow() throws Exception {
+        User owner = createUser("import-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Imported Group");
+        addMember(group, createUser("import-existing@example.com", "Password1!"), GroupRole.MEMBER);
+        createUser("import-a@example.com", "Password1!");
+        createUser("import-b@example.com", "Password1!");
+        String token = obtainAccessToken("import-owner@example.com", "Password1!");
+
+        MvcResult result = mockMvc.perform(post("/api/groups/{id}/members/import", group.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(toJson(Map.of("members", List.of(
+                                Map.of("email", "import-a@example.com", "role", "MEMBER"),
+                                Map.of("email", "import-b@example.com", "role", "admin"),
+                                Map.of("email", "IMPORT-A@example.com", "role", "MEMBER"),
+                                Map.of("email", "import-existing@example.com", "role", "MEMBER"),
+                                Map.of("email", "import-ghost@example.com", "role", "MEMBER"),
+                                Map.of("email", "not-an-email", "role", "MEMBER"),
+                                Map.of("email", "import-c@example.com", "role", "CAPTAIN"))))))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode report = readJson(result).path("data");
+        List<String> statuses = new ArrayList<>();
+        report.path("rows").forEach(row -> statuses.add(row.path("status").asText()));
+        assertThat(statuses).containsExactly(
+                "ADDED", "ADDED", "DUPLICATE_IN_REQUEST", "ALREADY_MEMBER",
+                "USER_NOT_FOUND", "INVALID_EMAIL", "INVALID_ROLE");
+        assertThat(report.path("added").asInt()).isEqualTo(2);
+        assertThat(groupRepository.findById(group.getId()).orElseThrow().getMemberCount()).isEqualTo(4);
+    }
+
+    @Test
+    void bulkInsertReportsOnlyTheRowsItWrote() {
+        User owner = createUser("bulk-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Bulk Group");
+        User first = createUser("bulk-first@example.com", "Password1!");
+        User raced = createUser("bulk-raced@example.com", "Password1!");
+        User last = createUser("bulk-last@example.com", "Password1!");
+        // added by a concurrent request after the import filtered its rows
+        addMember(group, raced, GroupRole.MEMBER);
+
+        boolean[] inserted = groupMembershipRepository.insertAllIfAbsent(group.getId(), List.of(
+                new NewMembership(first.getId(), GroupRole.MEMBER),
+                new NewMembership(raced.getId(), GroupRole.MEMBER),
+                new NewMembership(last.getId(), GroupRole.ADMIN)));
+
+        assertThat(inserted).containsExactly(true, false, true);
+        assertThat(groupMembershipRepository.countByGroupId(group.getId())).isEqualTo(4);
+        assertThat(groupMembershipRepository.insertAllIfAbsent(group.getId(), List.of(
+                new NewMembership(first.getId(), GroupRole.MEMBER)))).containsExactly(false);
+    }
+
+    @Test
+    void bulkImportAcceptsCsv() throws Exception {
+        User owner = createUser("csv-owner@example.com", "Password1!");
+        Group group = createGroup(owner, "Csv Group");
+        createUser("csv-a@example.com", "Password1!");
+        createUser("csv-b@example.com", "Password1!");
+        String token = obtainAccessToken("csv-owner@example.com", "Password1!");
+        String memberToken = obtainAccessToken("csv-a@example.com", "Password1!");
+
+        MvcResult result = mockMvc.perform(post("/api/groups/{id}/members/import", group.getId())
+                        .contentType("text/csv")
+                        .header("Authorization", "Bearer " + token)
+                        .content("email,role\ncsv-a@example.com\n\n\"csv-b@example.com\",ADMIN\n"))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        JsonNode report = readJson(result).path("data");
+        assertThat(report.path("total").asInt()).isEqualTo(2);
+        assertThat(report.path("added").asInt()).isEqualTo(2);
+        assertThat(report.path("rows").get(1).path("role").asText()).isEqualTo("ADMIN");
+
+        mockMvc.perform(get("/api/groups/{id}", group.getId())
+                        .header("Authorization", "Bearer " + memberToken))
+                .andExpect(status().isOk());
+    }
+
+    private long statementsFor(RequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        mockMvc.perform(request).andExpect(status().isOk());
+        return statistics.getPrepareStatementCount();
+    }
 }
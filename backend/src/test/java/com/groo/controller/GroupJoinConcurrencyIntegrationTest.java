@@ -0,0 +1,77 @@
+package com.groo.controller;
+
+import com.groo.domain.group.Group;
+import com.groo.domain.user.Role;
+import com.groo.domain.user.User;
+import com.groo.service.GroupMemberCountBuffer;
+import com.groo.support.IntegrationTestSupport;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class GroupJoinConcurrencyIntegrationTest extends IntegrationTestSupport {
+
+    private static final int JOINERS = 40;
+
+    @Autowired
+    private GroupMemberCountBuffer memberCountBuffer;
+
+    @Test
+    void joinStormAddsEveryMemberExactlyOnce() throws Exception {
+        User owner = createUser("lecturer@example.com", "Password1!");
+        Group group = createGroup(owner, "Lecture Hall");
+        String encodedPassword = passwordEncoder.encode("Password1!");
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            User student = new User("student" + i + "@example.com", encodedPassword, "Student");
+            student.setRole(Role.USER);
+            tokens.add(jwtTokenProvider.generateAccessToken(userRepository.save(student)));
+        }
+
+        assertThat(joinConcurrently(tokens, group.getInvitationCode())).hasSize(JOINERS).containsOnly(200);
+        assertThat(joinConcurrently(tokens, group.getInvitationCode())).hasSize(JOINERS).containsOnly(409);
+
+        memberCountBuffer.flush();
+        assertThat(groupMembershipRepository.countByGroupId(group.getId())).isEqualTo(JOINERS + 1);
+        assertThat(groupRepository.findById(group.getId()).orElseThrow().getMemberCount()).isEqualTo(JOINERS + 1);
+    }
+
+    private List<Integer> joinConcurrently(List<String> tokens, String invitationCode) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> joins = new ArrayList<>();
+            for (String token : tokens) {
+                joins.add(pool.submit(() -> {
+                    start.await();
+                    return mockMvc.perform(post("/api/groups/join")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .header("Authorization", "Bearer " + token)
+                                    .content(toJson(Map.of("invitationCode", invitationCode))))
+                            .andReturn()
+                            .getResponse()
+                            .getStatus();
+                }));
+            }
+            start.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> join : joins) {
+                statuses.add(join.get(30, TimeUnit.SECONDS));
+            }
+            return statuses;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
@@ -5,11 +5,18 @@ import com.groo.domain.group.Group;
 import com.groo.domain.group.GroupRole;
 import com.groo.domain.project.Project;
 import com.groo.domain.task.Task;
+import com.groo.domain.task.TaskPriority;
 import com.groo.domain.user.User;
+import com.groo.service.ProjectTaskStatsService;
 import com.groo.support.IntegrationTestSupport;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -21,6 +28,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class ProjectTaskControllerIntegrationTest extends IntegrationTestSupport {
 
+    @Autowired
+    private ProjectTaskStatsService projectTaskStatsService;
+
     @Test
     void createProjectWithinGroupSucceeds() throws Exception {
         User owner = createUser("project-owner@example.com", "Password1!");
@@ -154,4 +164,248 @@ class ProjectTaskControllerIntegrationTest extends IntegrationTestSupport {
                         .header("Authorization", "Bearer " + outsiderToken))
                 .andExpect(status().isOk());
     }
+
+    @Test
+    void taskStreamWritesOneJsonLinePerTask() throws Exception {
+        User owner = createUser("task-stream@example.com", "Password1!");
+        Group group = createGroup(owner, "Stream Group");
+        Project project = createProject(group, owner, "Stream Project");
+        for (int i = 0; i < 3; i++) {
+            createTask(project, owner, "Streamed " + i);
+        }
+        createUser("stream-outsider@example.com", "Password1!");
+        String token = obtainAccessToken("task-stream@example.com", "Password1!");
+        String outsiderToken = obtainAccessToken("stream-outsider@example.com", "Password1!");
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream")
+                        .param("projectId", String.valueOf(project.getId()))
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertThat(lines).hasSize(3);
+        for (String line : lines) {
+            JsonNode task = objectMapper.readTree(line);
+            assertThat(task.path("projectId").asLong()).isEqualTo(project.getId());
+            assertThat(task.path("title").asText()).startsWith("Streamed ");
+        }
+
+        mockMvc.perform(get("/api/tasks/stream")
+                        .param("projectId", String.valueOf(project.getId()))
+                        .header("Authorization", "Bearer " + outsiderToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void taskSearchPagesSeekOnSortKeyAndId() throws Exception {
+        User owner = createUser("task-seek@example.com", "Password1!");
+        Group group = createGroup(owner, "Seek Group");
+        Project project = createProject(group, owner, "Seek Project");
+        Instant base = Instant.parse("2030-01-01T00:00:00Z");
+        Instant[] dueDates = {
+                base.plus(2, ChronoUnit.DAYS), null, base, base.plus(2, ChronoUnit.DAYS),
+                null, base.plus(1, ChronoUnit.DAYS), null};
+        TaskPriority[] priorities = {
+                TaskPriority.LOW, TaskPriority.HIGH, TaskPriority.MEDIUM, TaskPriority.HIGH,
+                TaskPriority.LOW, TaskPriority.MEDIUM, TaskPriority.LOW};
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < dueDates.length; i++) {
+            Task task = createTask(project, owner, "Seek " + i);
+            task.setDueDate(dueDates[i]);
+            task.setPriority(priorities[i]);
+            tasks.add(taskRepository.save(task));
+        }
+        String token = obtainAccessToken("task-seek@example.com", "Password1!");
+
+        List<Long> byDueDate = tasks.stream()
+                .sorted(Comparator.comparing(Task::getDueDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Task::getId))
+                .map(Task::getId)
+                .toList();
+        assertThat(walkTaskPages(project, token, "dueDate,ASC")).containsExactlyElementsOf(byDueDate);
+
+        List<Long> byPriorityDesc = tasks.stream()
+                .sorted(Comparator.comparing((Task task) -> task.getPriority().name())
+                        .thenComparing(Task::getId)
+                        .reversed())
+                .map(Task::getId)
+                .toList();
+        assertThat(walkTaskPages(project, token, "priority,DESC")).containsExactlyElementsOf(byPriorityDesc);
+
+        String dueDateCursor = readJson(mockMvc.perform(get("/api/tasks/search/page")
+                                .header("Authorization", "Bearer " + token)
+                                .param("projectId", String.valueOf(project.getId()))
+                                .param("size", "5"))
+                        .andReturn())
+                .path("data").path("nextCursor").asText();
+        mockMvc.perform(get("/api/tasks/search/page")
+                        .header("Authorization", "Bearer " + token)
+                        .param("projectId", String.valueOf(project.getId()))
+                        .param("sort", "createdAt,DESC")
+                        .param("cursor", dueDateCursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> walkTaskPages(Project project, String token, String sort) throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/tasks/search/page")
+                    .header("Authorization", "Bearer " + token)
+                    .param("projectId", String.valueOf(project.getId()))
+                    .param("sort", sort)
+                    .param("size", "5");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = readJson(mockMvc.perform(request).andExpect(status().isOk()).andReturn()).path("data");
+            data.path("content").forEach(task -> seen.add(task.path("id").asLong()));
+            cursor = data.path("hasNext").asBoolean() ? data.path("nextCursor").asText() : null;
+        } while (cursor != null);
+        return seen;
+    }
+
+    @Test
+    void taskAccessDistinguishesMissingAndForbidden() throws Exception {
+        User owner = createUser("task-access@example.com", "Password1!");
+        Group group = createGroup(owner, "Access Group");
+        Project project = createProject(group, owner, "Access Project");
+        Task task = createTask(project, owner, "Guarded Task");
+        createUser("task-stranger@example.com", "Password1!");
+        String ownerToken = obtainAccessToken("task-access@example.com", "Password1!");
+        String strangerToken = obtainAccessToken("task-stranger@example.com", "Password1!");
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/{taskId}", task.getId())
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertThat(readJson(result).path("data").path("projectId").asLong()).isEqualTo(project.getId());
+
+        mockMvc.perform(get("/api/tasks/{taskId}/comments", task.getId())
+                        .header("Authorization", "Bearer " + strangerToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/tasks/{taskId}/activity", task.getId() + 1000)
+                        .header("Authorization", "Bearer " + ownerToken))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void projectPagesFollowCursorNewestFirst() throws Exception {
+        User owner = createUser("project-pages@example.com", "Password1!");
+        Group group = createGroup(owner, "Paged Group");
+        List<Long> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expected.add(0, createProject(group, owner, "Project " + i).getId());
+        }
+        String token = obtainAccessToken("project-pages@example.com", "Password1!");
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/projects/page")
+                    .header("Authorization", "Bearer " + token)
+                    .param("groupId", String.valueOf(group.getId()))
+                    .param("size", "2");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode data = readJson(mockMvc.perform(request).andExpect(status().isOk()).andReturn()).path("data");
+            data.path("content").forEach(project -> seen.add(project.path("id").asLong()));
+            cursor = data.path("hasNext").asBoolean() ? data.path("nextCursor").asText() : null;
+        } while (cursor != null);
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        mockMvc.perform(get("/api/projects/page")
+                        .header("Authorization", "Bearer " + token)
+                        .param("groupId", String.valueOf(group.getId()))
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void projectsCarryTaskStatsMaintainedByTaskWrites() throws Exception {
+        User owner = createUser("project-stats@example.com", "Password1!");
+        Group group = createGroup(owner, "Stats Group");
+        Project project = createProject(group, owner, "Stats Project");
+        String token = obtainAccessToken("project-stats@example.com", "Password1!");
+
+        MvcResult created = mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(toJson(Map.of(
+                                "projectId", project.getId(),
+                                "title", "Late task",
+                                "dueDate", Instant.now().minus(1, ChronoUnit.DAYS).toString(),
+                                "status", "TODO",
+                                "priority", "HIGH"))))
+                .andExpect(status().isOk())
+                .andReturn();
+        long lateTaskId = readJson(created).path("data").path("id").asLong();
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(toJson(Map.of(
+                                "projectId", project.getId(),
+                                "title", "Open task",
+                                "status", "DOING",
+                                "priority", "LOW"))))
+                .andExpect(status().isOk());
+
+        JsonNode stats = projectStats(group, token);
+        assertThat(stats.path("byStatus").path("TODO").asInt()).isEqualTo(1);
+        assertThat(stats.path("byStatus").path("DOING").asInt()).isEqualTo(1);
+        assertThat(stats.path("overdue").asInt()).isEqualTo(1);
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", lateTaskId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(toJson(Map.of("status", "DONE"))))
+                .andExpect(status().isOk());
+
+        stats = projectStats(group, token);
+        assertThat(stats.path("byStatus").path("TODO").asInt()).isZero();
+        assertThat(stats.path("byStatus").path("DONE").asInt()).isEqualTo(1);
+        assertThat(stats.path("byPriority").path("HIGH").asInt()).isEqualTo(1);
+        assertThat(stats.path("byPriority").path("LOW").asInt()).isEqualTo(1);
+        assertThat(stats.path("overdue").asInt()).isZero();
+    }
+
+    @Test
+    void overdueRefreshCountsTasksThatPassedTheirDueDate() throws Exception {
+        User owner = createUser("overdue-refresh@example.com", "Password1!");
+        Group group = createGroup(owner, "Overdue Group");
+        Project project = createProject(group, owner, "Overdue Project");
+        String token = obtainAccessToken("overdue-refresh@example.com", "Password1!");
+        mockMvc.perform(post("/api/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + token)
+                        .content(toJson(Map.of(
+                                "projectId", project.getId(),
+                                "title", "Fresh task",
+                                "status", "TODO",
+                                "priority", "LOW"))))
+                .andExpect(status().isOk());
+
+        // lapses without being written again, so only the refresh can notice it
+        Task lapsed = createTask(project, owner, "Lapsed task");
+        lapsed.setDueDate(Instant.now().minusMillis(1));
+        taskRepository.save(lapsed);
+
+        projectTaskStatsService.refreshOverdue();
+
+        JsonNode stats = projectStats(group, token);
+        assertThat(stats.path("byStatus").path("TODO").asInt()).isEqualTo(1);
+        assertThat(stats.path("overdue").asInt()).isEqualTo(1);
+    }
+
+    private JsonNode projectStats(Group group, String token) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/projects")
+                        .header("Authorization", "Bearer " + token)
+                        .param("groupId", String.valueOf(group.getId())))
+                .andExpect(status().isOk())
+                .andReturn();
+        return readJson(result).path("data").get(0).path("taskStats");
+    }
 }
@@ -0,0 +1,123 @@
+package com.groo.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.groo.domain.group.Group;
+import com.groo.domain.project.Project;
+import com.groo.domain.user.Role;
+import com.groo.domain.user.User;
+import com.groo.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.max-requests=3",
+        "app.rate-limit.window-seconds=3600",
+        "app.rate-limit.policies[0].pattern=/api/health/**",
+        "app.rate-limit.policies[0].cost=0",
+        "app.rate-limit.policies[1].pattern=/api/tasks/search",
+        "app.rate-limit.policies[1].cost=3",
+        "app.rate-limit.auto-ban-threshold=6"
+})
+class RateLimitIntegrationTest extends IntegrationTestSupport {
+
+    @Test
+    void exemptRouteIsNeverThrottled() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            mockMvc.perform(get("/api/health"))
+                    .andExpect(status().isOk());
+        }
+    }
+
+    @Test
+    void budgetIsKeptPerAuthenticatedUser() throws Exception {
+        String firstToken = jwtTokenProvider.generateAccessToken(createUser("limited-a@example.com", "Password1!"));
+        String secondToken = jwtTokenProvider.generateAccessToken(createUser("limited-b@example.com", "Password1!"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + firstToken))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + firstToken))
+                .andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + secondToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void expensiveRouteDrainsTheSharedBudget() throws Exception {
+        User owner = createUser("limited-search@example.com", "Password1!");
+        Group group = createGroup(owner, "Limited");
+        Project project = createProject(group, owner, "Limited project");
+        String token = jwtTokenProvider.generateAccessToken(owner);
+
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("projectId", project.getId().toString())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    @Test
+    void heavyHittersAreReportedToAdmins() throws Exception {
+        User busy = createUser("busy@example.com", "Password1!");
+        String busyToken = jwtTokenProvider.generateAccessToken(busy);
+        User admin = createUser("limit-admin@example.com", "Password1!");
+        admin.setRole(Role.ADMIN);
+        userRepository.save(admin);
+        String adminToken = jwtTokenProvider.generateAccessToken(admin);
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + busyToken))
+                    .andExpect(status().isOk());
+        }
+
+        JsonNode current = readJson(mockMvc.perform(get("/api/admin/stats/heavy-hitters")
+                        .header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk())
+                .andReturn()).path("data").path("current");
+
+        JsonNode busyEntry = null;
+        for (JsonNode entry : current) {
+            if (entry.path("key").asText().equals("user:" + busy.getId())) {
+                busyEntry = entry;
+            }
+        }
+        assertThat(busyEntry).isNotNull();
+        assertThat(busyEntry.path("estimatedCost").asLong()).isGreaterThanOrEqualTo(3);
+    }
+
+    @Test
+    void repeatedOffenderIsBannedTemporarily() throws Exception {
+        String token = jwtTokenProvider.generateAccessToken(createUser("offender@example.com", "Password1!"));
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isOk());
+        }
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/users/me")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isTooManyRequests());
+        }
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+}
@@ -1,9 +1,15 @@
 package com.groo.controller;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.groo.domain.user.Role;
+import com.groo.domain.user.User;
+import com.groo.security.UserStateCache;
 import com.groo.support.IntegrationTestSupport;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -14,6 +20,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 class UserControllerIntegrationTest extends IntegrationTestSupport {
 
+    @Autowired
+    private UserStateCache userStateCache;
+
     @Test
     void currentUserRequiresAuthentication() throws Exception {
         mockMvc.perform(get("/api/users/me"))
@@ -42,4 +51,61 @@ class UserControllerIntegrationTest extends IntegrationTestSupport {
         assertThat(data.path("email").asText()).isEqualTo("profile@example.com");
         assertThat(data.path("role").asText()).isEqualTo("USER");
     }
+
+    @Test
+    void actuatorMetricsAreAdminOnly() throws Exception {
+        createUser("metrics-reader@example.com", "Password1!");
+        String token = obtainAccessToken("metrics-reader@example.com", "Password1!");
+
+        mockMvc.perform(get("/actuator/metrics")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void deactivatedUserTokenIsRejected() throws Exception {
+        User admin = createUser("admin-deactivate@example.com", "Password1!");
+        admin.setRole(Role.ADMIN);
+        userRepository.save(admin);
+        User target = createUser("deactivate-me@example.com", "Password1!");
+        String adminToken = obtainAccessToken("admin-deactivate@example.com", "Password1!");
+        String targetToken = obtainAccessToken("deactivate-me@example.com", "Password1!");
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + targetToken))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(post("/api/admin/users/{id}/deactivate", target.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Authorization", "Bearer " + adminToken)
+                        .content(toJson(Map.of("reason", "left the lab"))))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + targetToken))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void deactivationOnAnotherNodeTakesEffectOnBroadcast() throws Exception {
+        User target = createUser("remote-deactivate@example.com", "Password1!");
+        String targetToken = obtainAccessToken("remote-deactivate@example.com", "Password1!");
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + targetToken))
+                .andExpect(status().isOk());
+
+        // another node deactivates the user: this node only learns about it from the eviction event
+        target.deactivate();
+        userRepository.save(target);
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + targetToken))
+                .andExpect(status().isOk());
+
+        userStateCache.onMessage(new DefaultMessage(
+                userStateCache.getChannel().getBytes(StandardCharsets.UTF_8),
+                String.valueOf(target.getId()).getBytes(StandardCharsets.UTF_8)), null);
+        mockMvc.perform(get("/api/users/me")
+                        .header("Authorization", "Bearer " + targetToken))
+                .andExpect(status().isForbidden());
+    }
 }
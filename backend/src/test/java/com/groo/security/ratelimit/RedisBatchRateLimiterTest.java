@@ -0,0 +1,110 @@
+package com.groo.security.ratelimit;
+
+import com.groo.common.CircuitBreaker;
+import com.groo.common.GuardedExecutor;
+import com.groo.config.RateLimitProperties;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.OngoingStubbing;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisBatchRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final RateLimitProperties properties = new RateLimitProperties();
+    private GuardedExecutor redisCalls;
+
+    @AfterEach
+    void tearDown() {
+        redisCalls.close();
+    }
+
+    @Test
+    void spendsAGrantedBatchLocallyBeforeAskingAgain() {
+        whenScriptRuns().thenReturn(List.of(5L, 0L));
+        RedisBatchRateLimiter limiter = limiter(new TokenBucketRateLimiter(10, Duration.ofSeconds(10), Duration.ofMinutes(1), 100));
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        }
+        verifyScriptRuns(1);
+
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        verifyScriptRuns(2);
+    }
+
+    @Test
+    void refusalIsRememberedUntilTheNextTokenIsDue() {
+        whenScriptRuns().thenReturn(List.of(0L, 300L));
+        RedisBatchRateLimiter limiter = limiter(new TokenBucketRateLimiter(10, Duration.ofSeconds(10), Duration.ofMinutes(1), 100));
+
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+        now.addAndGet(299);
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+        verifyScriptRuns(1);
+
+        now.addAndGet(1);
+        limiter.tryAcquire("client", 1);
+        verifyScriptRuns(2);
+    }
+
+    @Test
+    void fallsBackToTheLocalLimiterWhileRedisFails() {
+        whenScriptRuns().thenThrow(new RedisConnectionFailureException("down"));
+        properties.setRedisBreakerFailureThreshold(2);
+        RedisBatchRateLimiter limiter = limiter(new TokenBucketRateLimiter(3, Duration.ofSeconds(30), Duration.ofMinutes(1), 100));
+
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        assertThat(redisCalls.getCircuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // the open circuit skips Redis entirely and the local bucket keeps enforcing the limit
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+        verifyScriptRuns(2);
+    }
+
+    @Test
+    void denyFallbackRefusesWhileRedisFails() {
+        whenScriptRuns().thenThrow(new RedisConnectionFailureException("down"));
+        properties.setRedisFallback(RateLimitProperties.Fallback.DENY);
+        RedisBatchRateLimiter limiter = limiter((key, permits) -> true);
+
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+    }
+
+    private RedisBatchRateLimiter limiter(RateLimiter localFallback) {
+        properties.setRedisBatchSize(5);
+        properties.setRedisLeaseMillis(1_000);
+        redisCalls = new GuardedExecutor(
+                "test-ratelimit",
+                new CircuitBreaker(properties.getRedisBreakerFailureThreshold(), Duration.ofMinutes(1), null),
+                Duration.ofSeconds(1), 1, 16);
+        return new RedisBatchRateLimiter(
+                redisTemplate, redisCalls, localFallback, 10, Duration.ofSeconds(10), properties, now::get);
+    }
+
+    @SuppressWarnings("unchecked")
+    private OngoingStubbing<Object> whenScriptRuns() {
+        return when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyScriptRuns(int times) {
+        verify(redisTemplate, times(times)).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+}
@@ -0,0 +1,96 @@
+package com.groo.security.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+
+    // 10 tokens refilled over 10 s: one token per second
+    private TokenBucketRateLimiter limiter(int maxTrackedKeys) {
+        return new TokenBucketRateLimiter(
+                10, Duration.ofSeconds(10), Duration.ofSeconds(60), maxTrackedKeys, now::get);
+    }
+
+    @Test
+    void admitsUpToCapacityThenThrottles() {
+        TokenBucketRateLimiter limiter = limiter(100);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        }
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+        assertThat(limiter.tryAcquire("other", 1)).isTrue();
+    }
+
+    @Test
+    void rejectedRequestsConsumeNothing() {
+        TokenBucketRateLimiter limiter = limiter(100);
+
+        assertThat(limiter.tryAcquire("client", 8)).isTrue();
+        assertThat(limiter.tryAcquire("client", 3)).isFalse();
+        assertThat(limiter.tryAcquire("client", 2)).isTrue();
+    }
+
+    @Test
+    void refillsAtTheConfiguredRateAndCarriesFractions() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        assertThat(limiter.tryAcquire("client", 10)).isTrue();
+
+        now.addAndGet(999);
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+        now.addAndGet(1);
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+
+        now.addAndGet(2_500);
+        assertThat(limiter.tryAcquire("client", 2)).isTrue();
+        now.addAndGet(500);
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+    }
+
+    @Test
+    void neverRefillsBeyondCapacity() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        assertThat(limiter.tryAcquire("client", 1)).isTrue();
+
+        now.addAndGet(3_600_000);
+        assertThat(limiter.tryAcquire("client", 10)).isTrue();
+        assertThat(limiter.tryAcquire("client", 1)).isFalse();
+    }
+
+    @Test
+    void idleSweepDropsOnlyRefilledBuckets() {
+        TokenBucketRateLimiter limiter = limiter(100);
+        limiter.tryAcquire("idle", 1);
+        now.addAndGet(55_000);
+        limiter.tryAcquire("busy", 10);
+
+        now.addAndGet(5_000);
+        limiter.sweep(now.get() - 1_000_000);
+
+        assertThat(limiter.trackedKeys()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy", 10)).isFalse();
+    }
+
+    @Test
+    void fullTableRefusesOnlyNewKeysUntilBucketsRefill() {
+        TokenBucketRateLimiter limiter = limiter(2);
+        assertThat(limiter.tryAcquire("a", 5)).isTrue();
+        assertThat(limiter.tryAcquire("b", 5)).isTrue();
+
+        assertThat(limiter.tryAcquire("stranger", 1)).isFalse();
+        assertThat(limiter.tryAcquire("a", 1)).isTrue();
+        assertThat(limiter.trackedKeys()).isEqualTo(2);
+
+        // "b" is full again and can be dropped without losing anything; "a" still has spent tokens
+        now.addAndGet(5_000);
+        assertThat(limiter.tryAcquire("stranger", 1)).isTrue();
+        assertThat(limiter.trackedKeys()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("a", 10)).isFalse();
+    }
+}
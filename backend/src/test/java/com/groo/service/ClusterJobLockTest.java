@@ -0,0 +1,75 @@
+package com.groo.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ClusterJobLockTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(9);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final ClusterJobLock lock = new ClusterJobLock(redisTemplate, true);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+    }
+
+    @Test
+    void runsOnlyOnTheNodeThatTakesTheLock() {
+        when(values.setIfAbsent(eq("scheduler:lock:job"), anyString(), eq(LEASE))).thenReturn(true, false);
+
+        assertThat(lock.runExclusively("job", LEASE, runs::incrementAndGet)).isTrue();
+        assertThat(lock.runExclusively("job", LEASE, runs::incrementAndGet)).isFalse();
+        assertThat(runs).hasValue(1);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), any(List.class), any());
+    }
+
+    @Test
+    void failedRunReleasesTheLock() {
+        when(values.setIfAbsent(eq("scheduler:lock:job"), anyString(), eq(LEASE))).thenReturn(true);
+
+        assertThatThrownBy(() -> lock.runExclusively("job", LEASE, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("scheduler:lock:job")), anyString());
+    }
+
+    @Test
+    void skipsTheRunWhileRedisIsDown() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(lock.runExclusively("job", LEASE, runs::incrementAndGet)).isFalse();
+        assertThat(runs).hasValue(0);
+    }
+
+    @Test
+    void disabledLockRunsEveryTime() {
+        ClusterJobLock local = new ClusterJobLock(redisTemplate, false);
+
+        assertThat(local.runExclusively("job", LEASE, runs::incrementAndGet)).isTrue();
+        assertThat(local.runExclusively("job", LEASE, runs::incrementAndGet)).isTrue();
+        assertThat(runs).hasValue(2);
+    }
+}
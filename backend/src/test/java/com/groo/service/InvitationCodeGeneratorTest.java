@@ -0,0 +1,87 @@
+package com.groo.service;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InvitationCodeGeneratorTest {
+
+    private static final String KEY = "test-key";
+    private static final int BLOCK_CHARS = 13;
+
+    private final AtomicLong now = new AtomicLong(1_750_000_000_000L);
+
+    @Test
+    void burstWithinOneMillisecondYieldsDistinctBlocks() {
+        InvitationCodeGenerator generator = new InvitationCodeGenerator(1, KEY, now::get);
+        Set<String> blocks = new HashSet<>();
+
+        for (int i = 0; i < 50_000; i++) {
+            String code = generator.next();
+            assertThat(code).hasSize(InvitationCodeGenerator.CODE_LENGTH);
+            blocks.add(code.substring(0, BLOCK_CHARS));
+        }
+
+        assertThat(blocks).hasSize(50_000);
+    }
+
+    @Test
+    void wallClockSteppingBackwardsNeverRepeatsABlock() {
+        InvitationCodeGenerator generator = new InvitationCodeGenerator(1, KEY, now::get);
+        Set<String> blocks = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            blocks.add(generator.next().substring(0, BLOCK_CHARS));
+            now.incrementAndGet();
+        }
+
+        now.addAndGet(-10_000);
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(blocks.add(generator.next().substring(0, BLOCK_CHARS))).isTrue();
+            now.incrementAndGet();
+        }
+    }
+
+    @Test
+    void nodesWithDistinctIdsNeverShareABlock() {
+        InvitationCodeGenerator first = new InvitationCodeGenerator(1, KEY, now::get);
+        InvitationCodeGenerator second = new InvitationCodeGenerator(2, KEY, now::get);
+        Set<String> blocks = new HashSet<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(blocks.add(first.next().substring(0, BLOCK_CHARS))).isTrue();
+            assertThat(blocks.add(second.next().substring(0, BLOCK_CHARS))).isTrue();
+        }
+    }
+
+    @Test
+    void nodeIdIsLeasedFromTheRedisCounter() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.increment("invitation-code:node-seq")).thenReturn(1025L);
+
+        assertThat(InvitationCodeGenerator.leaseNodeId(redisTemplate)).isEqualTo(1);
+    }
+
+    @Test
+    void startupFailsWithoutANodeIdWhenRedisIsDown() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.increment("invitation-code:node-seq")).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> new InvitationCodeGenerator(null, KEY, redisTemplate))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.groo.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimePartitionedBloomFilterTest {
+
+    private static final long HORIZON = 60_000;
+    private static final int PARTITIONS = 6;
+    private static final long SLICE = HORIZON / PARTITIONS;
+
+    private final TimePartitionedBloomFilter filter =
+            new TimePartitionedBloomFilter(HORIZON, PARTITIONS, 10_000, 0.001);
+
+    @Test
+    void entryIsVisibleUntilItsSliceExpires() {
+        long now = 1_000_000;
+        filter.put("token", now + 30_000, now);
+
+        assertThat(filter.mightContain("token", now)).isTrue();
+        assertThat(filter.mightContain("token", now + 29_000)).isTrue();
+        assertThat(filter.mightContain("token", now + 30_000 + SLICE)).isFalse();
+        assertThat(filter.mightContain("other", now)).isFalse();
+    }
+
+    @Test
+    void alreadyExpiredEntriesAreIgnored() {
+        long now = 1_000_000;
+        filter.put("stale", now, now);
+
+        assertThat(filter.mightContain("stale", now)).isFalse();
+    }
+
+    @Test
+    void recycledSliceForgetsItsPreviousEntries() {
+        long now = 1_000_000;
+        filter.put("first", now + SLICE, now);
+        // one full ring later the same slot is claimed for a new slice and wiped
+        long later = now + (PARTITIONS + 1) * SLICE;
+        filter.put("second", later + SLICE, later);
+
+        assertThat(filter.mightContain("second", later)).isTrue();
+        assertThat(filter.mightContain("first", later)).isFalse();
+    }
+
+    @Test
+    void entriesBeyondTheHorizonAreKeptExactlyUntilExpiry() {
+        long now = 1_000_000;
+        long expiresAt = now + 10 * HORIZON;
+        filter.put("long-lived", expiresAt, now);
+
+        assertThat(filter.mightContain("long-lived", now)).isTrue();
+        assertThat(filter.mightContain("long-lived", expiresAt - 1)).isTrue();
+        assertThat(filter.mightContain("long-lived", expiresAt)).isFalse();
+    }
+}
@@ -0,0 +1,153 @@
+package com.groo.service;
+
+import com.groo.config.BlacklistProperties;
+import com.groo.config.BlacklistProperties.FailureMode;
+import com.groo.config.JwtProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenBlacklistServiceTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ZSetOperations<String, String> zSet = mock(ZSetOperations.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final BlacklistProperties properties = new BlacklistProperties();
+    private TokenBlacklistService service;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSet);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.hasKey("auth:blacklist-expiries:backfilled")).thenReturn(true);
+        service = new TokenBlacklistService(
+                redisTemplate, properties, new JwtProperties(), new SimpleMeterRegistry(), true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void resyncSeedsTheFilterFromOneRangeRead() {
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        when(zSet.rangeByScoreWithScores(eq("auth:blacklist-expiries"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of(new DefaultTypedTuple<>("revoked", (double) expiresAt)));
+        when(redisTemplate.hasKey("auth:blacklist:revoked")).thenReturn(true);
+
+        service.resyncLocalFilter();
+
+        assertThat(service.isBlacklisted("unknown")).isFalse();
+        verify(redisTemplate, never()).hasKey("auth:blacklist:unknown");
+        verify(redisTemplate, never()).getExpire(anyString(), eq(TimeUnit.MILLISECONDS));
+        assertThat(service.isBlacklisted("revoked")).isTrue();
+    }
+
+    @Test
+    void publishedEntriesReachTheFilterBetweenResyncs() {
+        when(zSet.rangeByScoreWithScores(eq("auth:blacklist-expiries"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of());
+        when(redisTemplate.hasKey("auth:blacklist:late")).thenReturn(true);
+        service.resyncLocalFilter();
+
+        assertThat(service.isBlacklisted("late")).isFalse();
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        service.onMessage(new DefaultMessage(
+                "auth:blacklist:events".getBytes(StandardCharsets.UTF_8),
+                (expiresAt + "|late").getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(service.isBlacklisted("late")).isTrue();
+    }
+
+    @Test
+    void writesHeldWhileRedisIsDownAreStillEnforcedAndReplayed() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(values).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+        when(redisTemplate.hasKey("auth:blacklist:held")).thenThrow(new RedisConnectionFailureException("down"));
+
+        service.blacklist("held", Duration.ofMinutes(5));
+        assertThat(service.isBlacklisted("held")).isTrue();
+
+        reset(values);
+        service.resyncLocalFilter();
+        verify(values).set(eq("auth:blacklist:held"), eq("1"), anyLong(), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void failClosedKeepsAnsweringFromTheFilterWhenAResyncFails() {
+        properties.setFailureMode(FailureMode.FAIL_CLOSED);
+        when(zSet.rangeByScoreWithScores(eq("auth:blacklist-expiries"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of());
+        service.resyncLocalFilter();
+
+        when(zSet.rangeByScoreWithScores(eq("auth:blacklist-expiries"), anyDouble(), anyDouble()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.hasKey("auth:blacklist:valid")).thenThrow(new RedisConnectionFailureException("down"));
+        service.resyncLocalFilter();
+
+        assertThat(service.isBlacklisted("valid")).isFalse();
+        verify(redisTemplate, never()).hasKey("auth:blacklist:valid");
+    }
+
+    @Test
+    void aSlowRedisCostsTheResyncAtMostTheCallTimeout() {
+        properties.setRedisCallTimeoutMs(50);
+        TokenBlacklistService bounded = new TokenBlacklistService(
+                redisTemplate, properties, new JwtProperties(), new SimpleMeterRegistry(), true);
+        when(zSet.rangeByScoreWithScores(eq("auth:blacklist-expiries"), anyDouble(), anyDouble()))
+                .thenAnswer(invocation -> {
+                    Thread.sleep(5_000);
+                    return Set.of();
+                });
+        try {
+            long startedAt = System.nanoTime();
+            bounded.resyncLocalFilter();
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(2_000);
+        } finally {
+            bounded.shutdown();
+        }
+    }
+
+    @Test
+    void writesPruneTheExpiryIndexEvenWithoutAUsableFilter() {
+        TokenBlacklistService withoutPubSub = new TokenBlacklistService(
+                redisTemplate, properties, new JwtProperties(), new SimpleMeterRegistry(), false);
+        try {
+            withoutPubSub.blacklist("revoked", Duration.ofMinutes(5));
+            withoutPubSub.resyncLocalFilter();
+
+            verify(zSet).add(eq("auth:blacklist-expiries"), eq("revoked"), anyDouble());
+            verify(zSet).removeRangeByScore(eq("auth:blacklist-expiries"), eq(Double.NEGATIVE_INFINITY), anyDouble());
+        } finally {
+            withoutPubSub.shutdown();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.groo.service.oauth;
+
+import com.groo.domain.user.SocialProvider;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SocialIdentityCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+    private final SocialIdentityCache cache = new SocialIdentityCache(300, 100, now::get);
+
+    @Test
+    void hitIsServedUntilTheTokenExpires() {
+        cache.remember(SocialProvider.GOOGLE, "token", Instant.ofEpochMilli(now.get() + 60_000), 7L);
+
+        now.addAndGet(59_999);
+        assertThat(cache.userIdFor(SocialProvider.GOOGLE, "token")).contains(7L);
+
+        now.addAndGet(1);
+        assertThat(cache.userIdFor(SocialProvider.GOOGLE, "token")).isEmpty();
+    }
+
+    @Test
+    void ttlCapsTokensThatOutliveIt() {
+        cache.remember(SocialProvider.GOOGLE, "token", Instant.ofEpochMilli(now.get() + 3_600_000), 7L);
+
+        now.addAndGet(300_000);
+        assertThat(cache.userIdFor(SocialProvider.GOOGLE, "token")).isEmpty();
+    }
+
+    @Test
+    void expiredOrUnboundedTokensAreNotCached() {
+        cache.remember(SocialProvider.GOOGLE, "expired", Instant.ofEpochMilli(now.get()), 7L);
+        cache.remember(SocialProvider.GOOGLE, "no-exp", null, 7L);
+
+        assertThat(cache.userIdFor(SocialProvider.GOOGLE, "expired")).isEmpty();
+        assertThat(cache.userIdFor(SocialProvider.GOOGLE, "no-exp")).isEmpty();
+    }
+
+    @Test
+    void entriesAreScopedToTheirProvider() {
+        cache.remember(SocialProvider.GOOGLE, "token", Instant.ofEpochMilli(now.get() + 60_000), 7L);
+
+        assertThat(cache.userIdFor(SocialProvider.FIREBASE, "token")).isEmpty();
+    }
+}
@@ -2,15 +2,18 @@ package com.groo.support;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.groo.common.TokenDigests;
 import com.groo.domain.auth.RefreshToken;
 import com.groo.domain.auth.RefreshTokenRepository;
 import com.groo.domain.group.Group;
+import com.groo.domain.group.GroupMemberCountDeltaRepository;
 import com.groo.domain.group.GroupMembership;
 import com.groo.domain.group.GroupMembershipRepository;
 import com.groo.domain.group.GroupRepository;
 import com.groo.domain.group.GroupRole;
 import com.groo.domain.project.Project;
 import com.groo.domain.project.ProjectRepository;
+import com.groo.domain.project.ProjectTaskStatsRepository;
 import com.groo.domain.task.Task;
 import com.groo.domain.task.TaskActivityRepository;
 import com.groo.domain.task.TaskCommentRepository;
@@ -20,6 +23,7 @@ import com.groo.domain.user.Role;
 import com.groo.domain.user.User;
 import com.groo.domain.user.UserRepository;
 import com.groo.security.JwtTokenProvider;
+import com.groo.service.GroupMembershipCache;
 import java.util.Map;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -55,9 +59,15 @@ public abstract class IntegrationTestSupport {
     @Autowired
     protected GroupMembershipRepository groupMembershipRepository;
 
+    @Autowired
+    protected GroupMemberCountDeltaRepository groupMemberCountDeltaRepository;
+
     @Autowired
     protected ProjectRepository projectRepository;
 
+    @Autowired
+    protected ProjectTaskStatsRepository projectTaskStatsRepository;
+
     @Autowired
     protected TaskRepository taskRepository;
 
@@ -79,6 +89,9 @@ public abstract class IntegrationTestSupport {
     @Autowired
     protected JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    protected GroupMembershipCache groupMembershipCache;
+
     protected static final MediaType JSON = MediaType.APPLICATION_JSON;
 
     @AfterEach
@@ -87,11 +100,14 @@ public abstract class IntegrationTestSupport {
         taskCommentRepository.deleteAll();
         taskSubtaskRepository.deleteAll();
         taskRepository.deleteAll();
+        projectTaskStatsRepository.deleteAll();
         projectRepository.deleteAll();
+        groupMemberCountDeltaRepository.deleteAll();
         groupMembershipRepository.deleteAll();
         groupRepository.deleteAll();
         refreshTokenRepository.deleteAll();
         userRepository.deleteAll();
+        groupMembershipCache.evictAll();
     }
 
     protected User createUser(String email, String rawPassword) {
@@ -104,11 +120,15 @@ public abstract class IntegrationTestSupport {
         Group group = new Group(name, "description", owner);
         groupRepository.save(group);
         groupMembershipRepository.save(new GroupMembership(group, owner, GroupRole.OWNER));
+        groupRepository.adjustMemberCount(group.getId(), 1);
+        groupMembershipCache.evict(owner.getId());
         return group;
     }
 
     protected void addMember(Group group, User user, GroupRole role) {
         groupMembershipRepository.save(new GroupMembership(group, user, role));
+        groupRepository.adjustMemberCount(group.getId(), 1);
+        groupMembershipCache.evict(user.getId());
     }
 
     protected Project createProject(Group group, User creator, String name) {
@@ -151,7 +171,7 @@ public abstract class IntegrationTestSupport {
         String refreshToken = "test-refresh-" + UUID.randomUUID();
         refreshTokenRepository.save(new RefreshToken(
                 user,
-                refreshToken,
+                TokenDigests.sha256Hex(refreshToken),
                 jwtTokenProvider.getRefreshTokenExpiryInstant()));
         return refreshToken;
     }